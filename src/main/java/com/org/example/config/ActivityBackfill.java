@@ -0,0 +1,40 @@
+package com.org.example.config;
+
+import com.org.example.repository.UserActivityRepository;
+import com.org.example.service.ActivityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Builds the review-day bitmap of users who recorded reviews before it was tracked.
+ * Only users with reviews but no user_activity row are visited, so re-runs are cheap.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.activity.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class ActivityBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final UserActivityRepository userActivityRepository;
+    private final ActivityService activityService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long afterId = 0;
+        List<Long> userIds;
+        while (!(userIds = userActivityRepository.findUserIdsWithoutActivityAfter(afterId, Limit.of(BATCH_SIZE))).isEmpty()) {
+            List<Long> batch = userIds;
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(activityService::rebuild));
+            afterId = batch.get(batch.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.org.example.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the MySQL FULLTEXT indexes used by the fulltext search engine.
+ * Hibernate's ddl-auto cannot declare FULLTEXT indexes, so they are added here once
+ * (each index is only created if it does not exist yet).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "fulltext")
+public class FullTextIndexInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        createIfMissing("notes", "ft_notes_search", "title, content, code_snippet");
+        createIfMissing("projects", "ft_projects_search", "name, description");
+    }
+
+    private void createIfMissing(String table, String indexName, String columns) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName);
+
+        if (existing == null || existing == 0) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName + " (" + columns + ")");
+        }
+    }
+}
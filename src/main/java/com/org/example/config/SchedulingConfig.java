@@ -0,0 +1,12 @@
+package com.org.example.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled housekeeping jobs (e.g. evicting idle autocomplete tries)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,26 @@
+package com.org.example.config;
+
+import com.org.example.dto.SearchCacheStats;
+import com.org.example.service.SearchResultCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/searchcache: process-wide hit/miss counts and size of the search result cache
+ * (for sizing it). Operational data, so it lives with the other actuator endpoints and
+ * needs the operator credential (see SecurityConfig).
+ */
+@Component
+@Endpoint(id = "searchcache")
+@RequiredArgsConstructor
+public class SearchCacheEndpoint {
+
+    private final SearchResultCache searchResultCache;
+
+    @ReadOperation
+    public SearchCacheStats stats() {
+        return searchResultCache.getStats();
+    }
+}
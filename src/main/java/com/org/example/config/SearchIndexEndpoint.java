@@ -0,0 +1,36 @@
+package com.org.example.config;
+
+import com.org.example.service.LuceneSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * POST /actuator/searchindex: rebuild the Lucene index from the database (lucene engine only),
+ * e.g. after restoring a backup or a crash. Needs the operator credential (see SecurityConfig).
+ */
+@Component
+@Endpoint(id = "searchindex")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "lucene")
+public class SearchIndexEndpoint {
+
+    private final LuceneSearchService luceneSearchService;
+
+    @WriteOperation
+    public Map<String, Object> rebuild() throws IOException {
+        long startTime = System.currentTimeMillis();
+        int documents = luceneSearchService.rebuild();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("documents", documents);
+        result.put("tookMs", System.currentTimeMillis() - startTime);
+        return result;
+    }
+}
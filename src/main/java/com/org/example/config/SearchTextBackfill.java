@@ -0,0 +1,66 @@
+package com.org.example.config;
+
+import com.org.example.entities.Note;
+import com.org.example.entities.Project;
+import com.org.example.entities.Topic;
+import com.org.example.repository.NoteRepository;
+import com.org.example.repository.ProjectRepository;
+import com.org.example.repository.TopicRepository;
+import com.org.example.search.SearchText;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills in search_text / search_hash for rows written before those columns existed.
+ * Only rows without a hash are touched, so after the first run this is three empty queries.
+ * Rows are updated directly so their updated_at timestamps are left alone.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class SearchTextBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TopicRepository topicRepository;
+    private final NoteRepository noteRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Topic> topicBatch;
+        while (!(topicBatch = topicRepository.findBySearchHashIsNullOrderByIdAsc(Limit.of(BATCH_SIZE))).isEmpty()) {
+            List<Topic> batch = topicBatch;
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(topic -> {
+                String text = topic.buildSearchText();
+                topicRepository.updateSearchText(topic.getId(), text, SearchText.hash(text));
+            }));
+        }
+
+        List<Note> noteBatch;
+        while (!(noteBatch = noteRepository.findBySearchHashIsNullOrderByIdAsc(Limit.of(BATCH_SIZE))).isEmpty()) {
+            List<Note> batch = noteBatch;
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(note -> {
+                String text = note.buildSearchText();
+                noteRepository.updateSearchText(note.getId(), text, SearchText.hash(text));
+            }));
+        }
+
+        List<Project> projectBatch;
+        while (!(projectBatch = projectRepository.findBySearchHashIsNullOrderByIdAsc(Limit.of(BATCH_SIZE))).isEmpty()) {
+            List<Project> batch = projectBatch;
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(project -> {
+                String text = project.buildSearchText();
+                projectRepository.updateSearchText(project.getId(), text, SearchText.hash(text));
+            }));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.org.example.config;
+
+import com.org.example.repository.ReviewSessionRepository;
+import com.org.example.service.StreakService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Builds the streak state of users who recorded reviews before streaks were tracked.
+ * Only users with reviews but no streak row are visited, so re-runs are cheap.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.streak.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class StreakBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final ReviewSessionRepository reviewRepository;
+    private final StreakService streakService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long afterId = 0;
+        List<Long> userIds;
+        while (!(userIds = reviewRepository.findUserIdsWithoutStreakAfter(afterId, Limit.of(BATCH_SIZE))).isEmpty()) {
+            List<Long> batch = userIds;
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(streakService::rebuild));
+            afterId = batch.get(batch.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.org.example.config;
+
+import com.org.example.entities.Note;
+import com.org.example.entities.Topic;
+import com.org.example.repository.NoteRepository;
+import com.org.example.repository.TopicRepository;
+import com.org.example.service.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills topic_tags / note_tags from the tags strings of rows written before the tag tables existed.
+ * Only rows that have tags but no links are visited, in id order, so re-runs are cheap.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.tags.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class TagBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TopicRepository topicRepository;
+    private final NoteRepository noteRepository;
+    private final TagService tagService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long afterId = 0;
+        List<Topic> topics;
+        while (!(topics = topicRepository.findUnlinkedTagsAfter(afterId, Limit.of(BATCH_SIZE))).isEmpty()) {
+            List<Topic> batch = topics;
+            transactionTemplate.executeWithoutResult(status ->
+                    batch.forEach(topic -> tagService.syncTopicTags(topic.getId(), topic.getTags())));
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+
+        afterId = 0;
+        List<Note> notes;
+        while (!(notes = noteRepository.findUnlinkedTagsAfter(afterId, Limit.of(BATCH_SIZE))).isEmpty()) {
+            List<Note> batch = notes;
+            transactionTemplate.executeWithoutResult(status ->
+                    batch.forEach(note -> tagService.syncNoteTags(note.getId(), note.getTags())));
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+    }
+}
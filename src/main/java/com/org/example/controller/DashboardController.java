@@ -1,16 +1,26 @@
 package com.org.example.controller;
 
+import com.org.example.dto.ActivityHeatmapResponse;
+import com.org.example.dto.CategoryDetailResponse;
+import com.org.example.dto.CategoryStats;
+import com.org.example.dto.ConfidenceHistogramResponse;
 import com.org.example.dto.DashboardStatsResponse;
+import com.org.example.dto.MonthlyProgress;
 import com.org.example.dto.StreakInfo;
 import com.org.example.entities.User;
+import com.org.example.service.ActivityService;
 import com.org.example.service.DashboardService;
+import com.org.example.service.StreakService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -22,6 +32,8 @@ import java.util.List;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final StreakService streakService;
+    private final ActivityService activityService;
 
     // Get complete dashboard stats
     @GetMapping
@@ -32,15 +44,83 @@ public class DashboardController {
         return ResponseEntity.ok(stats);
     }
 
+    // Get topic statistics per category
+    @GetMapping("/categories")
+    @Operation(summary = "Get category stats",
+            description = "Topic count, average confidence and confidence bands per category, largest first")
+    public ResponseEntity<List<CategoryStats>> getCategoryStats(Authentication authentication) {
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(dashboardService.getCategoryStats(userId));
+    }
+
+    // Drill down into one category
+    @GetMapping("/categories/{category}")
+    @Operation(summary = "Get category detail",
+            description = "One category's statistics with a keyset page of its topics (pass nextCursor back as cursor)")
+    public ResponseEntity<CategoryDetailResponse> getCategoryDetail(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(dashboardService.getCategoryDetail(userId, category, cursor, size));
+    }
+
+    // Get the confidence histogram
+    @GetMapping("/confidence")
+    @Operation(summary = "Get confidence histogram",
+            description = "Topics per confidence level and per weak/moderate/strong band, with the band boundaries in use")
+    public ResponseEntity<ConfidenceHistogramResponse> getConfidenceHistogram(Authentication authentication) {
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(dashboardService.getConfidenceHistogram(userId));
+    }
+
+    // Get monthly progress
+    @GetMapping("/monthly")
+    @Operation(summary = "Get monthly progress",
+            description = "Topics learned and reviews completed per month over the last months (default 12, max 60)")
+    public ResponseEntity<List<MonthlyProgress>> getMonthlyProgress(
+            @RequestParam(required = false) Integer months,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(dashboardService.getMonthlyProgress(userId, months));
+    }
+
     // Get streak information
     @GetMapping("/streak")
     @Operation(summary = "Get streak info", description = "Retrieves current and longest review streaks")
     public ResponseEntity<StreakInfo> getStreakInfo(Authentication authentication) {
         Long userId = extractUserId(authentication);
-        StreakInfo streakInfo = dashboardService.getStreakInfo(userId);
+        StreakInfo streakInfo = streakService.getStreakInfo(userId);
         return ResponseEntity.ok(streakInfo);
     }
 
+    // Set the time zone review days are counted in
+    @PutMapping("/streak/timezone")
+    @Operation(summary = "Set streak time zone",
+            description = "Sets the time zone (e.g. Europe/Berlin) review days are counted in and recomputes the streaks")
+    public ResponseEntity<StreakInfo> updateStreakTimezone(
+            @RequestParam String timezone,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(streakService.updateTimezone(userId, timezone));
+    }
+
+    // Get the review activity heatmap
+    @GetMapping("/heatmap")
+    @Operation(summary = "Get activity heatmap",
+            description = "Days with reviews over the last weeks (default 53), one column per week, with runs and monthly counts")
+    public ResponseEntity<ActivityHeatmapResponse> getHeatmap(
+            @RequestParam(required = false) Integer weeks,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(activityService.getHeatmap(userId, weeks));
+    }
+
     // Helper method
     private Long extractUserId(Authentication authentication) {
         User user = (User) authentication.getPrincipal();
@@ -1,5 +1,6 @@
 package com.org.example.controller;
 
+import com.org.example.dto.CursorPage;
 import com.org.example.dto.NoteRequest;
 import com.org.example.dto.NoteResponse;
 import com.org.example.entities.User;
@@ -48,6 +49,20 @@ public class NoteController {
         return ResponseEntity.ok(notes);
     }
 
+    // Get notes for a topic one page at a time (cursor-based)
+    @GetMapping("/page")
+    @Operation(summary = "Get notes page", description = "Retrieves one page of notes for a topic; pass nextCursor back as cursor to continue")
+    public ResponseEntity<CursorPage<NoteResponse>> getNotesPage(
+            @PathVariable Long topicId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        CursorPage<NoteResponse> page = noteService.getNotesPage(topicId, cursor, size, userId);
+        return ResponseEntity.ok(page);
+    }
+
     // Get a specific note
     @GetMapping("/{noteId}")
     @Operation(summary = "Get note by ID", description = "Retrieves a specific note by its ID")
@@ -1,5 +1,6 @@
 package com.org.example.controller;
 
+import com.org.example.dto.CursorPage;
 import com.org.example.dto.ReviewRequest;
 import com.org.example.dto.ReviewResponse;
 import com.org.example.dto.ReviewStatsResponse;
@@ -72,6 +73,19 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    // Get reviews one page at a time (cursor-based, newest first)
+    @GetMapping("/page")
+    @Operation(summary = "Get reviews page", description = "Retrieves one page of review sessions, newest first; pass nextCursor back as cursor to continue")
+    public ResponseEntity<CursorPage<ReviewResponse>> getReviewsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        CursorPage<ReviewResponse> page = reviewService.getReviewsPage(userId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     // Get reviews within date range
     @GetMapping("/range")
     @Operation(summary = "Get reviews by date range", description = "Retrieves reviews within a specific date range")
@@ -0,0 +1,89 @@
+package com.org.example.controller;
+
+import com.org.example.dto.SavedSearchRequest;
+import com.org.example.dto.SavedSearchResponse;
+import com.org.example.dto.SearchResponse;
+import com.org.example.entities.User;
+import com.org.example.service.SavedSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search/saved")
+@RequiredArgsConstructor
+@Tag(name = "Saved Searches", description = "APIs for saving searches and opening their kept-up-to-date results")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    // Save a search
+    @PostMapping
+    @Operation(summary = "Save a search", description = "Saves a query with its filters and sort, and builds its results")
+    public ResponseEntity<SavedSearchResponse> createSavedSearch(
+            @Valid @RequestBody SavedSearchRequest request,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        SavedSearchResponse response = savedSearchService.createSavedSearch(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // Get all saved searches
+    @GetMapping
+    @Operation(summary = "Get all saved searches", description = "Retrieves the saved searches of the authenticated user")
+    public ResponseEntity<List<SavedSearchResponse>> getAllSavedSearches(Authentication authentication) {
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(savedSearchService.getAllSavedSearches(userId));
+    }
+
+    // Open a saved search
+    @GetMapping("/{id}")
+    @Operation(summary = "Open a saved search", description = "Returns one page of the saved search's current results")
+    public ResponseEntity<SearchResponse> openSavedSearch(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(savedSearchService.openSavedSearch(id, page, size, userId));
+    }
+
+    // Update a saved search
+    @PutMapping("/{id}")
+    @Operation(summary = "Update a saved search", description = "Changes the name or criteria of a saved search")
+    public ResponseEntity<SavedSearchResponse> updateSavedSearch(
+            @PathVariable Long id,
+            @Valid @RequestBody SavedSearchRequest request,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(savedSearchService.updateSavedSearch(id, request, userId));
+    }
+
+    // Delete a saved search
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a saved search", description = "Deletes a saved search and its results")
+    public ResponseEntity<Void> deleteSavedSearch(
+            @PathVariable Long id,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        savedSearchService.deleteSavedSearch(id, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Helper method
+    private Long extractUserId(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return user.getId();
+    }
+}
@@ -3,8 +3,10 @@ package com.org.example.controller;
 
 import com.org.example.dto.SearchRequest;
 import com.org.example.dto.SearchResponse;
+import com.org.example.dto.SuggestionResponse;
 import com.org.example.entities.User;
 import com.org.example.service.SearchService;
+import com.org.example.service.SuggestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,7 @@ import java.util.List;
 public class SearchController {
 
     private final SearchService searchService;
+    private final SuggestService suggestService;
 
     // Global search (POST for complex filters)
     @PostMapping
@@ -42,6 +45,8 @@ public class SearchController {
             @RequestParam String q,
             @RequestParam(required = false) Integer page,
             @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Boolean fuzzy,
             Authentication authentication) {
 
         Long userId = extractUserId(authentication);
@@ -50,11 +55,27 @@ public class SearchController {
         request.setQuery(q);
         request.setPage(page);
         request.setSize(size);
+        request.setCursor(cursor);
+        request.setFuzzy(fuzzy);
 
         SearchResponse response = searchService.search(request, userId);
         return ResponseEntity.ok(response);
     }
 
+    // Autocomplete (cheap enough to call on every keystroke)
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest completions",
+            description = "Complete topic names, categories, tags and note titles; sort by confidence (default) or recent")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String sort,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(suggestService.suggest(userId, q, limit, sort));
+    }
+
     // Helper method
     private Long extractUserId(Authentication authentication) {
         User user = (User) authentication.getPrincipal();
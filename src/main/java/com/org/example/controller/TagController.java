@@ -0,0 +1,39 @@
+package com.org.example.controller;
+
+import com.org.example.dto.TagCountResponse;
+import com.org.example.entities.User;
+import com.org.example.service.TagService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+@Tag(name = "Tags", description = "APIs for tag statistics")
+public class TagController {
+
+    private final TagService tagService;
+
+    // Tag cloud (most used tags first)
+    @GetMapping("/cloud")
+    @Operation(summary = "Tag cloud", description = "Tags used on the user's topics and notes, with counts")
+    public ResponseEntity<List<TagCountResponse>> getTagCloud(
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(tagService.getTagCloud(userId, limit));
+    }
+
+    // Helper method
+    private Long extractUserId(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return user.getId();
+    }
+}
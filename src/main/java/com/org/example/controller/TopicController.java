@@ -1,5 +1,6 @@
 package com.org.example.controller;
 
+import com.org.example.dto.CursorPage;
 import com.org.example.dto.TopicRequest;
 import com.org.example.dto.TopicResponse;
 import com.org.example.entities.User;
@@ -54,6 +55,20 @@ public class TopicController {
         return ResponseEntity.ok(topics);
     }
 
+    // Get topics one page at a time (cursor-based)
+    @GetMapping("/page")
+    @Operation(summary = "Get topics page", description = "Retrieves one page of topics; pass nextCursor back as cursor to continue")
+    public ResponseEntity<CursorPage<TopicResponse>> getTopicsPage(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+
+        Long userId = extractUserId(authentication);
+        CursorPage<TopicResponse> page = topicService.getTopicsPage(userId, category, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     // Get topic by ID
     @GetMapping("/{id}")
     @Operation(summary = "Get topic by ID", description = "Retrieves a specific topic by its ID")
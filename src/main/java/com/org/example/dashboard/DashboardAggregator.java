@@ -0,0 +1,307 @@
+package com.org.example.dashboard;
+
+import com.org.example.dto.CategoryStats;
+import com.org.example.repository.TopicSpecifications;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the dashboard figures of one user in a single pass over their topics and reviews.
+ *
+ * Feed every topic with {@link #addTopic} and every review with {@link #addReview} (in any order),
+ * then read the results. All state is primitive counters, one small array per category, two
+ * month arrays sized to the window and a bitmap of review days (bit i = reviewed i days before
+ * today), so nothing is allocated per row. The confidence bands and the month window are passed
+ * in (app.dashboard.*), the at-risk threshold is {@link TopicSpecifications#AT_RISK_DAYS}.
+ * Not thread-safe; use one instance per computation.
+ */
+public final class DashboardAggregator {
+
+    // Per category: topics, confidence sum, topics with a confidence, then one counter per band
+    private static final int CATEGORY_COUNT = 0;
+    private static final int CATEGORY_CONFIDENCE_SUM = 1;
+    private static final int CATEGORY_CONFIDENCE_COUNT = 2;
+    private static final int CATEGORY_WEAK = 3;
+    private static final int CATEGORY_MODERATE = 4;
+    private static final int CATEGORY_STRONG = 5;
+
+    private final int weakBelow;
+    private final int strongFrom;
+    private final int months;
+
+    private final LocalDate today;
+    private final long todayEpochDay;
+    private final int currentMonthIndex;  // year * 12 + month
+    private final LocalDate atRiskThreshold;
+    private final LocalDateTime weekAgo;
+    private final LocalDateTime monthAgo;
+    private final LocalDate yesterday;
+
+    // Topics
+    private long topics;
+    private long confidenceSum;
+    private long confidenceCount;
+    private long weakTopics;
+    private long moderateTopics;
+    private long strongTopics;
+    private long atRiskTopics;
+    private long firstLearnedDay = Long.MAX_VALUE;
+    private long lastLearnedDay = Long.MIN_VALUE;
+    private final Map<String, long[]> categories = new HashMap<>();
+    private final long[] topicsByMonth;  // index 0 = current month
+
+    // Reviews
+    private long reviews;
+    private long ratingSum;
+    private long timeSpentMinutes;
+    private long reviewsThisWeek;
+    private long reviewsThisMonth;
+    private long dueToday;
+    private long overdue;
+    private long lastReviewDay = Long.MIN_VALUE;
+    private final long[] reviewsByMonth;
+    private final BitSet reviewDays = new BitSet();
+
+    public DashboardAggregator(LocalDateTime now, int weakBelow, int strongFrom, int months) {
+        this.weakBelow = weakBelow;
+        this.strongFrom = strongFrom;
+        this.months = months;
+        this.topicsByMonth = new long[months];
+        this.reviewsByMonth = new long[months];
+
+        this.today = now.toLocalDate();
+        this.todayEpochDay = today.toEpochDay();
+        this.currentMonthIndex = monthIndex(today);
+        this.atRiskThreshold = today.minusDays(TopicSpecifications.AT_RISK_DAYS);
+        this.weekAgo = now.minusDays(7);
+        this.monthAgo = now.minusDays(30);
+        this.yesterday = today.minusDays(1);
+    }
+
+    public void addTopic(Integer confidenceLevel, String category, LocalDate learnedDate, LocalDate lastReviewed) {
+        topics++;
+
+        int band = -1;
+        if (confidenceLevel != null) {
+            int confidence = confidenceLevel;
+            confidenceSum += confidence;
+            confidenceCount++;
+            if (confidence < weakBelow) {
+                weakTopics++;
+                band = CATEGORY_WEAK;
+            } else if (confidence >= strongFrom) {
+                strongTopics++;
+                band = CATEGORY_STRONG;
+            } else {
+                moderateTopics++;
+                band = CATEGORY_MODERATE;
+            }
+        }
+
+        if (lastReviewed != null && lastReviewed.isBefore(atRiskThreshold)) {
+            atRiskTopics++;
+        }
+
+        if (category != null) {
+            long[] stats = categories.computeIfAbsent(category, key -> new long[6]);
+            stats[CATEGORY_COUNT]++;
+            if (band >= 0) {
+                stats[CATEGORY_CONFIDENCE_SUM] += confidenceLevel;
+                stats[CATEGORY_CONFIDENCE_COUNT]++;
+                stats[band]++;
+            }
+        }
+
+        if (learnedDate != null) {
+            long day = learnedDate.toEpochDay();
+            firstLearnedDay = Math.min(firstLearnedDay, day);
+            lastLearnedDay = Math.max(lastLearnedDay, day);
+
+            int monthsAgo = currentMonthIndex - monthIndex(learnedDate);
+            if (monthsAgo >= 0 && monthsAgo < months) {
+                topicsByMonth[monthsAgo]++;
+            }
+        }
+    }
+
+    public void addReview(LocalDateTime reviewedAt, LocalDate nextReviewDate, Integer rating, Integer timeSpent) {
+        reviews++;
+        if (rating != null) {
+            ratingSum += rating;
+        }
+        if (timeSpent != null) {
+            timeSpentMinutes += timeSpent;
+        }
+
+        if (nextReviewDate != null && !nextReviewDate.isAfter(today)) {
+            dueToday++;
+            if (!nextReviewDate.isAfter(yesterday)) {
+                overdue++;
+            }
+        }
+
+        if (reviewedAt == null) {
+            return;
+        }
+        if (!reviewedAt.isBefore(weekAgo)) {
+            reviewsThisWeek++;
+        }
+        if (!reviewedAt.isBefore(monthAgo)) {
+            reviewsThisMonth++;
+        }
+
+        LocalDate reviewDate = reviewedAt.toLocalDate();
+        long day = reviewDate.toEpochDay();
+        lastReviewDay = Math.max(lastReviewDay, day);
+
+        long daysAgo = todayEpochDay - day;
+        if (daysAgo >= 0 && daysAgo <= Integer.MAX_VALUE) {
+            reviewDays.set((int) daysAgo);
+        }
+
+        int monthsAgo = currentMonthIndex - monthIndex(reviewDate);
+        if (monthsAgo >= 0 && monthsAgo < months) {
+            reviewsByMonth[monthsAgo]++;
+        }
+    }
+
+    // ==================== TOPICS ====================
+
+    public long getTotalTopics() {
+        return topics;
+    }
+
+    public long getConfidenceSum() {
+        return confidenceSum;
+    }
+
+    public long getConfidenceCount() {
+        return confidenceCount;
+    }
+
+    public long getWeakTopics() {
+        return weakTopics;
+    }
+
+    public long getModerateTopics() {
+        return moderateTopics;
+    }
+
+    public long getStrongTopics() {
+        return strongTopics;
+    }
+
+    public long getAtRiskTopics() {
+        return atRiskTopics;
+    }
+
+    public LocalDate getFirstLearnedDate() {
+        return firstLearnedDay != Long.MAX_VALUE ? LocalDate.ofEpochDay(firstLearnedDay) : null;
+    }
+
+    public LocalDate getLastLearnedDate() {
+        return lastLearnedDay != Long.MIN_VALUE ? LocalDate.ofEpochDay(lastLearnedDay) : null;
+    }
+
+    // Categories with their topic count, average confidence and bands, largest first
+    public List<CategoryStats> getCategoryStats() {
+        List<CategoryStats> result = new ArrayList<>(categories.size());
+        categories.forEach((category, stats) -> result.add(CategoryStats.builder()
+                .category(category)
+                .count(stats[CATEGORY_COUNT])
+                .averageConfidence(average(stats[CATEGORY_CONFIDENCE_SUM], stats[CATEGORY_CONFIDENCE_COUNT]))
+                .weakTopics(stats[CATEGORY_WEAK])
+                .moderateTopics(stats[CATEGORY_MODERATE])
+                .strongTopics(stats[CATEGORY_STRONG])
+                .build()));
+        result.sort(Comparator.comparing(CategoryStats::getCount).reversed()
+                .thenComparing(CategoryStats::getCategory));
+        return result;
+    }
+
+    // Topics learned in the month (0 outside the window)
+    public long getTopicsLearned(YearMonth month) {
+        int monthsAgo = currentMonthIndex - monthIndex(month.atDay(1));
+        return monthsAgo >= 0 && monthsAgo < months ? topicsByMonth[monthsAgo] : 0;
+    }
+
+    // ==================== REVIEWS ====================
+
+    public long getTotalReviews() {
+        return reviews;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public long getTotalTimeSpentMinutes() {
+        return timeSpentMinutes;
+    }
+
+    public long getReviewsThisWeek() {
+        return reviewsThisWeek;
+    }
+
+    public long getReviewsThisMonth() {
+        return reviewsThisMonth;
+    }
+
+    // Reviews whose next review date is today or earlier
+    public long getDueToday() {
+        return dueToday;
+    }
+
+    // Reviews whose next review date is yesterday or earlier
+    public long getOverdue() {
+        return overdue;
+    }
+
+    // Reviews completed in the month (0 outside the window)
+    public long getReviewsCompleted(YearMonth month) {
+        int monthsAgo = currentMonthIndex - monthIndex(month.atDay(1));
+        return monthsAgo >= 0 && monthsAgo < months ? reviewsByMonth[monthsAgo] : 0;
+    }
+
+    // Days in a row with a review, counted back from today (0 when there was none today)
+    public int getCurrentStreak() {
+        return reviewDays.nextClearBit(0);
+    }
+
+    // Longest run of consecutive review days
+    public int getLongestStreak() {
+        int longest = 0;
+        int start = reviewDays.nextSetBit(0);
+        while (start >= 0) {
+            int end = reviewDays.nextClearBit(start);
+            longest = Math.max(longest, end - start);
+            start = reviewDays.nextSetBit(end);
+        }
+        return longest;
+    }
+
+    public LocalDate getLastReviewDate() {
+        return lastReviewDay != Long.MIN_VALUE ? LocalDate.ofEpochDay(lastReviewDay) : null;
+    }
+
+    public boolean isReviewedToday() {
+        return reviewDays.get(0);
+    }
+
+    // Helper: Mean rounded to 2 decimals, 0 when there is nothing to average
+    private static double average(long sum, long count) {
+        return count > 0 ? Math.round((double) sum / count * 100.0) / 100.0 : 0.0;
+    }
+
+    private static int monthIndex(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+}
@@ -0,0 +1,150 @@
+package com.org.example.dashboard;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Set of calendar days stored as one bit per day from a base day (bit 0 = firstDay).
+ *
+ * A year of activity is 46 bytes; runs and ranges are answered with BitSet scans over words
+ * instead of date arithmetic per day. Days before the base shift the bitmap (rare: only when
+ * a history is replayed out of order).
+ */
+public final class DayBitmap {
+
+    private long firstDay;       // epoch day of bit 0; meaningless while empty
+    private BitSet bits;
+
+    public DayBitmap() {
+        this.bits = new BitSet();
+    }
+
+    private DayBitmap(long firstDay, BitSet bits) {
+        this.firstDay = firstDay;
+        this.bits = bits;
+    }
+
+    /**
+     * Restore a bitmap from its stored form (see {@link #toByteArray()})
+     */
+    public static DayBitmap of(LocalDate firstDay, byte[] bytes) {
+        if (firstDay == null || bytes == null) {
+            return new DayBitmap();
+        }
+        return new DayBitmap(firstDay.toEpochDay(), BitSet.valueOf(bytes));
+    }
+
+    public void add(LocalDate day) {
+        long epochDay = day.toEpochDay();
+        if (bits.isEmpty()) {
+            firstDay = epochDay;
+        } else if (epochDay < firstDay) {
+            rebase(epochDay);
+        }
+        bits.set(toIndex(epochDay));
+    }
+
+    public boolean contains(LocalDate day) {
+        long index = day.toEpochDay() - firstDay;
+        return !bits.isEmpty() && index >= 0 && index < bits.length() && bits.get((int) index);
+    }
+
+    public boolean isEmpty() {
+        return bits.isEmpty();
+    }
+
+    public LocalDate getFirstDay() {
+        return bits.isEmpty() ? null : LocalDate.ofEpochDay(firstDay + bits.nextSetBit(0));
+    }
+
+    public LocalDate getLastDay() {
+        return bits.isEmpty() ? null : LocalDate.ofEpochDay(firstDay + bits.length() - 1);
+    }
+
+    // Number of days in [from, to]
+    public int count(LocalDate from, LocalDate to) {
+        if (bits.isEmpty()) {
+            return 0;
+        }
+        int start = clampIndex(from.toEpochDay());
+        int end = clampIndex(to.toEpochDay() + 1);
+        int count = 0;
+        for (int i = bits.nextSetBit(start); i >= 0 && i < end; i = bits.nextSetBit(i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    // Length of the longest run of consecutive days
+    public int longestRun() {
+        int longest = 0;
+        int start = bits.nextSetBit(0);
+        while (start >= 0) {
+            int end = bits.nextClearBit(start);
+            longest = Math.max(longest, end - start);
+            start = bits.nextSetBit(end);
+        }
+        return longest;
+    }
+
+    // Length of the run of consecutive days ending at the given day (0 when the day is not set)
+    public int runEndingAt(LocalDate day) {
+        if (!contains(day)) {
+            return 0;
+        }
+        int index = (int) (day.toEpochDay() - firstDay);
+        return index - bits.previousClearBit(index);
+    }
+
+    // The days in [from, to], in order
+    public List<LocalDate> days(LocalDate from, LocalDate to) {
+        List<LocalDate> days = new ArrayList<>();
+        if (bits.isEmpty()) {
+            return days;
+        }
+        int end = clampIndex(to.toEpochDay() + 1);
+        for (int i = bits.nextSetBit(clampIndex(from.toEpochDay())); i >= 0 && i < end; i = bits.nextSetBit(i + 1)) {
+            days.add(LocalDate.ofEpochDay(firstDay + i));
+        }
+        return days;
+    }
+
+    // Stored form: base day (see getBaseDay) plus little-endian bytes
+    public byte[] toByteArray() {
+        return bits.toByteArray();
+    }
+
+    public LocalDate getBaseDay() {
+        return bits.isEmpty() ? null : LocalDate.ofEpochDay(firstDay);
+    }
+
+    private int toIndex(long epochDay) {
+        long index = epochDay - firstDay;
+        if (index > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Day out of range: " + LocalDate.ofEpochDay(epochDay));
+        }
+        return (int) index;
+    }
+
+    // Helper: Index of a day, clamped to [0, length] for range scans
+    private int clampIndex(long epochDay) {
+        return (int) Math.max(0, Math.min(bits.length(), epochDay - firstDay));
+    }
+
+    // Helper: Move bit 0 back to an earlier day
+    private void rebase(long newFirstDay) {
+        long distance = firstDay - newFirstDay;
+        if (distance + bits.length() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Day out of range: " + LocalDate.ofEpochDay(newFirstDay));
+        }
+        int shift = (int) distance;
+        BitSet shifted = new BitSet(bits.length() + shift);
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            shifted.set(i + shift);
+        }
+        bits = shifted;
+        firstDay = newFirstDay;
+    }
+}
@@ -0,0 +1,27 @@
+package com.org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityHeatmapResponse {
+    private LocalDate from;               // A Monday
+    private LocalDate to;                 // Today (in the user's time zone)
+    private String timezone;
+
+    // One column per week, Monday to Sunday: 1 = reviewed, 0 = not, null = after today
+    private List<List<Integer>> weeks;
+
+    private Integer activeDays;           // Days with a review in the range
+    private Integer currentRun;           // Consecutive review days up to today (or yesterday)
+    private Integer longestRun;           // Longest run ever
+    private List<MonthlyActivity> months; // Active days per month in the range, oldest first
+}
@@ -0,0 +1,16 @@
+package com.org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryDetailResponse {
+
+    private CategoryStats stats;
+    private CursorPage<TopicResponse> topics;  // The category's topics, in id order
+}
@@ -14,4 +14,7 @@ public class CategoryStats {
     private String category;
     private Long count;
     private Double averageConfidence;
+    private Long weakTopics;        // Bands as in the dashboard (app.dashboard.confidence.*)
+    private Long moderateTopics;
+    private Long strongTopics;
 }
@@ -0,0 +1,26 @@
+package com.org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConfidenceHistogramResponse {
+
+    private List<ConfidenceLevelCount> levels;  // Every level from 1 to 5 (zero counts included), ascending
+    private Long unratedTopics;                 // Topics without a confidence level
+
+    private Long weakTopics;
+    private Long moderateTopics;
+    private Long strongTopics;
+
+    // Band boundaries in use
+    private Integer weakBelow;
+    private Integer strongFrom;
+}
@@ -0,0 +1,16 @@
+package com.org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConfidenceLevelCount {
+    private Integer level;
+    private Long count;
+    private String band;      // WEAK, MODERATE or STRONG
+}
@@ -30,7 +30,7 @@ public class DashboardStatsResponse {
 
     // Confidence Stats
     private Double averageConfidence;
-    private Long weakTopics;        // confidence <= 2
+    private Long weakTopics;        // confidence <= 2 (bands: app.dashboard.confidence.*)
     private Long moderateTopics;    // confidence = 3
     private Long strongTopics;      // confidence >= 4
 
@@ -44,7 +44,7 @@ public class DashboardStatsResponse {
     private List<CategoryStats> topicsByCategory;
 
     // Monthly Progress
-    private List<MonthlyProgress> monthlyProgress;  // Last 12 months
+    private List<MonthlyProgress> monthlyProgress;  // Last 12 months (app.dashboard.monthly-window-months)
 
     // Skill Evolution Summary
     private Integer totalSkillFamilies;
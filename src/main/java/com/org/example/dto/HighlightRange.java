@@ -0,0 +1,13 @@
+package com.org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HighlightRange {
+    private Integer start;  // Offset in the snippet (inclusive)
+    private Integer end;    // Offset in the snippet (exclusive)
+}
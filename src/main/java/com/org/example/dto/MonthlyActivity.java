@@ -0,0 +1,15 @@
+package com.org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyActivity {
+    private String month;        // "2024-01"
+    private Integer activeDays;  // Days with at least one review
+}
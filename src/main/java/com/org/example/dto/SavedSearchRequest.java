@@ -0,0 +1,22 @@
+package com.org.example.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchRequest {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name cannot exceed 100 characters")
+    private String name;
+
+    // Query, filters and sort to save (page, size and cursor are ignored)
+    @NotNull(message = "Search criteria are required")
+    private SearchRequest criteria;
+}
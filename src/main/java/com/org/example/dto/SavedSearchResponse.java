@@ -0,0 +1,21 @@
+package com.org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearchResponse {
+    private Long id;
+    private String name;
+    private SearchRequest criteria;
+    private Long resultCount;            // null until the results were first built
+    private LocalDateTime refreshedAt;   // When the results were last rebuilt from scratch
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchCacheStats {
+    private Long hits;
+    private Long misses;
+    private Double hitRate;     // hits / (hits + misses), 0 before the first lookup
+    private Long evictions;     // Entries dropped because the cache was full
+    private Long expirations;   // Entries dropped because they outlived the TTL
+    private Integer size;
+    private Integer maxEntries;
+}
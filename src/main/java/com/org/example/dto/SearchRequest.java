@@ -16,6 +16,7 @@ public class SearchRequest {
 
     // Search query
     private String query;  // Search in name, content, code
+    private Boolean fuzzy; // Also match typos in topic names, tags and note titles (index engine)
 
     // Filters
     private List<String> categories;      // Filter by categories
@@ -34,4 +35,5 @@ public class SearchRequest {
     // Pagination
     private Integer page;     // Page number (0-based)
     private Integer size;     // Page size (default 20)
+    private String cursor;    // nextCursor of a previous response (takes precedence over page)
 }
@@ -21,5 +21,7 @@ public class SearchResponse {
     private Integer totalPages;
     private Integer pageSize;
     private List<SearchResultItem> results;
+    private String nextCursor;  // Continuation token for the next page (null on the last page)
+    private Boolean partialResults; // A source timed out (parallel mode) - results may be incomplete
     private Long searchTimeMs;  // How long the search took
 }
@@ -20,6 +20,7 @@ public class SearchResultItem {
     private Long id;
     private String title;
     private String snippet;        // Preview of content
+    private List<HighlightRange> highlights; // Ranges of the snippet matching the query
     private String category;
     private List<String> tags;
     private Integer confidenceLevel;
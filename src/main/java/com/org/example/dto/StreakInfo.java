@@ -18,4 +18,5 @@ public class StreakInfo {
     private Integer longestStreak;
     private LocalDate lastReviewDate;
     private Boolean reviewedToday;
+    private String timezone;           // Review days are counted in this time zone
 }
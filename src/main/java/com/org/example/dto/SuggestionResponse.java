@@ -0,0 +1,18 @@
+package com.org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionResponse {
+
+    private String type;            // "TOPIC", "NOTE", "CATEGORY", "TAG"
+    private String text;            // The completion to show / search for
+    private Long id;                // Topic or note id (best matching topic for categories and tags)
+    private Integer confidenceLevel;
+}
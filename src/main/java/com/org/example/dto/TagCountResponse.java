@@ -0,0 +1,17 @@
+package com.org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagCountResponse {
+    private String name;
+    private Long topicCount;
+    private Long noteCount;
+    private Long count;      // topics + notes
+}
@@ -1,6 +1,8 @@
 package com.org.example.entities;
 
 
+import com.org.example.search.CodeTokenizer;
+import com.org.example.search.SearchText;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,7 +16,9 @@ import java.time.LocalDateTime;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name="notes")
+@Table(name="notes", indexes = {
+        @Index(name = "idx_notes_topic_id", columnList = "topic_id, id")
+})
 public class Note {
 
     @Id
@@ -39,6 +43,13 @@ public class Note {
     @Column(length = 500)
     private String tags;
 
+    // Normalized tokens of the searchable fields, kept up to date on every write
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
+    @Column(name = "search_hash")
+    private Long searchHash;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -46,4 +57,22 @@ public class Note {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Recompute the stored search text before every insert/update
+    @PrePersist
+    @PreUpdate
+    public void refreshSearchText() {
+        String text = buildSearchText();
+        Long hash = SearchText.hash(text);
+        if (!hash.equals(searchHash)) {
+            searchText = text;
+            searchHash = hash;
+        }
+    }
+
+    // Normalized search text of the current field values
+    public String buildSearchText() {
+        return SearchText.append(SearchText.normalize(title, content, tags),
+                CodeTokenizer.tokenize(codeSnippet, language));
+    }
 }
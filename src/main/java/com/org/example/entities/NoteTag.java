@@ -0,0 +1,38 @@
+package com.org.example.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Link between a note and one of its tags (mirrors the note's comma-separated tags column)
+ */
+@Entity
+@Table(name = "note_tags", indexes = {
+        @Index(name = "idx_note_tags_tag", columnList = "tag_id, note_id")
+})
+@IdClass(NoteTag.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteTag {
+
+    @Id
+    @Column(name = "note_id")
+    private Long noteId;
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long noteId;
+        private Long tagId;
+    }
+}
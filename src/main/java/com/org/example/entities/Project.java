@@ -1,6 +1,7 @@
 package com.org.example.entities;
 
 import com.org.example.enums.ProjectStatus;
+import com.org.example.search.SearchText;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -45,6 +46,13 @@ public class Project {
     @Column(length = 20)
     private ProjectStatus status = ProjectStatus.PLANNING;
 
+    // Normalized tokens of the searchable fields, kept up to date on every write
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
+    @Column(name = "search_hash")
+    private Long searchHash;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -74,4 +82,21 @@ public class Project {
     public void clearTopics() {
         this.topics.clear();
     }
+
+    // Recompute the stored search text before every insert/update
+    @PrePersist
+    @PreUpdate
+    public void refreshSearchText() {
+        String text = buildSearchText();
+        Long hash = SearchText.hash(text);
+        if (!hash.equals(searchHash)) {
+            searchText = text;
+            searchHash = hash;
+        }
+    }
+
+    // Normalized search text of the current field values
+    public String buildSearchText() {
+        return SearchText.normalize(name, description);
+    }
 }
@@ -10,7 +10,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "review_sessions")
+@Table(name = "review_sessions", indexes = {
+        @Index(name = "idx_review_sessions_user_reviewed", columnList = "user_id, reviewed_at, id"),
+        @Index(name = "idx_review_sessions_user_next", columnList = "user_id, next_review_date"),
+        @Index(name = "idx_review_sessions_topic_next", columnList = "topic_id, next_review_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,143 @@
+package com.org.example.entities;
+
+import com.org.example.dto.SearchRequest;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A named search (query + filters + sort) whose results are kept materialized in saved_search_results
+ */
+@Entity
+@Table(name = "saved_searches", indexes = {
+        @Index(name = "idx_saved_searches_user", columnList = "user_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(length = 500)
+    private String query;
+
+    private Boolean fuzzy;
+
+    // Comma-separated, like the tags column of topics
+    @Column(length = 1000)
+    private String categories;
+
+    @Column(length = 1000)
+    private String tags;
+
+    @Column(name = "min_confidence")
+    private Integer minConfidence;
+
+    @Column(name = "max_confidence")
+    private Integer maxConfidence;
+
+    @Column(name = "learned_after")
+    private LocalDate learnedAfter;
+
+    @Column(name = "learned_before")
+    private LocalDate learnedBefore;
+
+    @Column(name = "only_due_for_review")
+    private Boolean onlyDueForReview;
+
+    @Column(name = "only_at_risk")
+    private Boolean onlyAtRisk;
+
+    @Column(name = "sort_by", length = 20)
+    private String sortBy;
+
+    @Column(name = "sort_order", length = 4)
+    private String sortOrder;
+
+    // Set when a change could not be applied incrementally; the results are rebuilt on the next open
+    @Column(nullable = false)
+    private Boolean stale = true;
+
+    @Column(name = "result_count")
+    private Long resultCount;
+
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    // Saved searches without a query only ever match topics, whose membership can be re-checked one at a time
+    public boolean hasQuery() {
+        return query != null && !query.isBlank();
+    }
+
+    // Whether the results change with the date alone (due / at-risk are relative to today)
+    public boolean isTimeDependent() {
+        return Boolean.TRUE.equals(onlyDueForReview) || Boolean.TRUE.equals(onlyAtRisk);
+    }
+
+    // Copy the criteria of a search request (paging and cursor are not part of a saved search)
+    public void applyCriteria(SearchRequest request) {
+        query = request.getQuery();
+        fuzzy = request.getFuzzy();
+        categories = join(request.getCategories());
+        tags = join(request.getTags());
+        minConfidence = request.getMinConfidence();
+        maxConfidence = request.getMaxConfidence();
+        learnedAfter = request.getLearnedAfter();
+        learnedBefore = request.getLearnedBefore();
+        onlyDueForReview = request.getOnlyDueForReview();
+        onlyAtRisk = request.getOnlyAtRisk();
+        sortBy = request.getSortBy();
+        sortOrder = request.getSortOrder();
+    }
+
+    // The criteria as a search request
+    public SearchRequest toRequest() {
+        SearchRequest request = new SearchRequest();
+        request.setQuery(query);
+        request.setFuzzy(fuzzy);
+        request.setCategories(split(categories));
+        request.setTags(split(tags));
+        request.setMinConfidence(minConfidence);
+        request.setMaxConfidence(maxConfidence);
+        request.setLearnedAfter(learnedAfter);
+        request.setLearnedBefore(learnedBefore);
+        request.setOnlyDueForReview(onlyDueForReview);
+        request.setOnlyAtRisk(onlyAtRisk);
+        request.setSortBy(sortBy);
+        request.setSortOrder(sortOrder);
+        return request;
+    }
+
+    private static String join(List<String> values) {
+        return values != null && !values.isEmpty() ? String.join(",", values) : null;
+    }
+
+    private static List<String> split(String values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return Arrays.stream(values.split(","))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,60 @@
+package com.org.example.entities;
+
+import com.org.example.enums.ContentType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * One materialized result of a saved search - a copy of the fields the result list shows and sorts on
+ */
+@Entity
+@Table(name = "saved_search_results", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_saved_search_results_item",
+                columnNames = {"saved_search_id", "content_type", "content_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchResult {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "saved_search_id", nullable = false)
+    private Long savedSearchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false, length = 10)
+    private ContentType contentType;
+
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(length = 500)
+    private String snippet;
+
+    @Column(length = 100)
+    private String category;
+
+    @Column(length = 500)
+    private String tags;
+
+    @Column(name = "confidence_level")
+    private Integer confidenceLevel;
+
+    @Column(name = "learned_date")
+    private LocalDate learnedDate;
+
+    @Column(name = "last_reviewed")
+    private LocalDate lastReviewed;
+
+    @Column(name = "relevance_score")
+    private Double relevanceScore;
+}
@@ -1,6 +1,7 @@
 package com.org.example.entities;
 
 import com.org.example.enums.DifficultyType;
+import com.org.example.search.SearchText;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -13,7 +14,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "topics")
+@Table(name = "topics", indexes = {
+        @Index(name = "idx_topics_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_topics_user_category", columnList = "user_id, category"),
+        @Index(name = "idx_topics_user_last_reviewed", columnList = "user_id, last_reviewed"),
+        @Index(name = "idx_topics_user_learned", columnList = "user_id, learned_date"),
+        @Index(name = "idx_topics_user_confidence", columnList = "user_id, confidence_level")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -65,6 +72,13 @@ public class Topic {
     private Integer lastIntervalDays = 1;
 
 
+    // Normalized tokens of the searchable fields, kept up to date on every write
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
+    @Column(name = "search_hash")
+    private Long searchHash;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -72,4 +86,21 @@ public class Topic {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Recompute the stored search text before every insert/update
+    @PrePersist
+    @PreUpdate
+    public void refreshSearchText() {
+        String text = buildSearchText();
+        Long hash = SearchText.hash(text);
+        if (!hash.equals(searchHash)) {
+            searchText = text;
+            searchHash = hash;
+        }
+    }
+
+    // Normalized search text of the current field values
+    public String buildSearchText() {
+        return SearchText.normalize(name, category, tags);
+    }
 }
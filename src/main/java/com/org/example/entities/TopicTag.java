@@ -0,0 +1,38 @@
+package com.org.example.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Link between a topic and one of its tags (mirrors the topic's comma-separated tags column)
+ */
+@Entity
+@Table(name = "topic_tags", indexes = {
+        @Index(name = "idx_topic_tags_tag", columnList = "tag_id, topic_id")
+})
+@IdClass(TopicTag.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopicTag {
+
+    @Id
+    @Column(name = "topic_id")
+    private Long topicId;
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long topicId;
+        private Long tagId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.org.example.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Days on which a user reviewed, as a DayBitmap: bit i is set when the user reviewed
+ * on firstDay + i (days in the user's streak time zone).
+ */
+@Entity
+@Table(name = "user_activity")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserActivity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "first_day")
+    private LocalDate firstDay;
+
+    @Lob
+    @Column(name = "review_days", columnDefinition = "BLOB")
+    private byte[] reviewDays;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public UserActivity(Long userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,62 @@
+package com.org.example.entities;
+
+import com.org.example.repository.CategoryTotals;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Materialized totals of one category of a user, kept up to date by UserStatsService together
+ * with the user's user_stats row (see app.dashboard.category-rollup)
+ */
+@Entity
+@Table(name = "user_category_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_category_stats_category", columnNames = {"user_id", "category"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCategoryStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(length = 50, nullable = false)
+    private String category;
+
+    @Column(nullable = false)
+    private Long topics = 0L;
+
+    @Column(name = "confidence_sum", nullable = false)
+    private Long confidenceSum = 0L;
+
+    @Column(name = "confidence_count", nullable = false)
+    private Long confidenceCount = 0L;   // Topics with a confidence level
+
+    @Column(name = "weak_topics", nullable = false)
+    private Long weakTopics = 0L;
+
+    @Column(name = "moderate_topics", nullable = false)
+    private Long moderateTopics = 0L;
+
+    @Column(name = "strong_topics", nullable = false)
+    private Long strongTopics = 0L;
+
+    public UserCategoryStats(Long userId, String category) {
+        this.userId = userId;
+        this.category = category;
+    }
+
+    public void apply(CategoryTotals totals) {
+        this.topics = totals.getTopics();
+        this.confidenceSum = totals.getConfidenceSum();
+        this.confidenceCount = totals.getConfidenceCount();
+        this.weakTopics = totals.getWeakTopics();
+        this.moderateTopics = totals.getModerateTopics();
+        this.strongTopics = totals.getStrongTopics();
+    }
+}
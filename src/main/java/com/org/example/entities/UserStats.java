@@ -0,0 +1,76 @@
+package com.org.example.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Materialized dashboard totals of one user, kept up to date by UserStatsService in the
+ * transaction of every topic, note, project and review write.
+ * Only date-independent figures live here; "this week", due and streak figures depend on today.
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Topics
+    @Column(name = "total_topics", nullable = false)
+    private Long totalTopics = 0L;
+
+    @Column(name = "confidence_sum", nullable = false)
+    private Long confidenceSum = 0L;
+
+    @Column(name = "confidence_count", nullable = false)
+    private Long confidenceCount = 0L;   // Topics with a confidence level
+
+    @Column(name = "weak_topics", nullable = false)
+    private Long weakTopics = 0L;
+
+    @Column(name = "moderate_topics", nullable = false)
+    private Long moderateTopics = 0L;
+
+    @Column(name = "strong_topics", nullable = false)
+    private Long strongTopics = 0L;
+
+    @Column(name = "first_learned_date")
+    private LocalDate firstLearnedDate;
+
+    @Column(name = "last_learned_date")
+    private LocalDate lastLearnedDate;
+
+    // Notes and projects
+    @Column(name = "total_notes", nullable = false)
+    private Long totalNotes = 0L;
+
+    @Column(name = "total_projects", nullable = false)
+    private Long totalProjects = 0L;
+
+    // Reviews
+    @Column(name = "total_reviews", nullable = false)
+    private Long totalReviews = 0L;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum = 0L;
+
+    @Column(name = "time_spent_minutes", nullable = false)
+    private Long timeSpentMinutes = 0L;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public UserStats(Long userId) {
+        this.userId = userId;
+    }
+}
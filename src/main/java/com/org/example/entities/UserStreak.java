@@ -0,0 +1,47 @@
+package com.org.example.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Review streak state of one user, advanced by StreakService on every recorded review.
+ * Days are calendar days in the user's time zone.
+ */
+@Entity
+@Table(name = "user_streaks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStreak {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Consecutive review days ending at lastReviewDate
+    @Column(name = "current_streak", nullable = false)
+    private Integer currentStreak = 0;
+
+    @Column(name = "longest_streak", nullable = false)
+    private Integer longestStreak = 0;
+
+    @Column(name = "last_review_date")
+    private LocalDate lastReviewDate;
+
+    @Column(nullable = false, length = 50)
+    private String timezone;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public UserStreak(Long userId, String timezone) {
+        this.userId = userId;
+        this.timezone = timezone;
+    }
+}
@@ -0,0 +1,7 @@
+package com.org.example.enums;
+
+public enum ContentType {
+    TOPIC,
+    NOTE,
+    PROJECT
+}
@@ -0,0 +1,8 @@
+package com.org.example.enums;
+
+public enum SuggestionType {
+    TOPIC,
+    NOTE,
+    CATEGORY,
+    TAG
+}
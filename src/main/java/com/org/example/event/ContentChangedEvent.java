@@ -0,0 +1,30 @@
+package com.org.example.event;
+
+import com.org.example.enums.ContentType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the write services whenever a topic, note or project is
+ * created, updated or deleted, so derived structures (search index, caches)
+ * can update themselves without the services knowing about them.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ContentChangedEvent {
+
+    private final Long userId;
+    private final ContentType type;
+    private final Long id;
+    private final boolean deleted;
+
+    public static ContentChangedEvent saved(Long userId, ContentType type, Long id) {
+        return new ContentChangedEvent(userId, type, id, false);
+    }
+
+    public static ContentChangedEvent deleted(Long userId, ContentType type, Long id) {
+        return new ContentChangedEvent(userId, type, id, true);
+    }
+}
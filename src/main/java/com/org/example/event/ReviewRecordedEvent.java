@@ -0,0 +1,22 @@
+package com.org.example.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by ReviewService after a review session is recorded (the reviewed topic's
+ * confidence, last-reviewed date and schedule have changed with it).
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReviewRecordedEvent {
+
+    private final Long userId;
+    private final Long topicId;
+    private final Long reviewId;
+    private final LocalDateTime reviewedAt;
+}
@@ -0,0 +1,21 @@
+package com.org.example.repository;
+
+/**
+ * Topic count and confidence figures of one of a user's categories
+ */
+public interface CategoryTotals {
+
+    String getCategory();
+
+    Long getTopics();
+
+    Long getConfidenceSum();
+
+    Long getConfidenceCount();
+
+    Long getWeakTopics();
+
+    Long getModerateTopics();
+
+    Long getStrongTopics();
+}
@@ -0,0 +1,11 @@
+package com.org.example.repository;
+
+/**
+ * Number of a user's topics at one confidence level (null level = topics without a confidence)
+ */
+public interface ConfidenceCount {
+
+    Integer getLevel();
+
+    Long getCount();
+}
@@ -0,0 +1,11 @@
+package com.org.example.repository;
+
+/**
+ * Id and MySQL MATCH ... AGAINST relevance of a FULLTEXT search hit
+ */
+public interface FullTextHit {
+
+    Long getId();
+
+    Double getScore();
+}
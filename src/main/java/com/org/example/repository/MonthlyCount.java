@@ -0,0 +1,13 @@
+package com.org.example.repository;
+
+/**
+ * Number of a user's topics or reviews in one calendar month (month 1-12)
+ */
+public interface MonthlyCount {
+
+    Integer getYear();
+
+    Integer getMonth();
+
+    Long getCount();
+}
@@ -1,11 +1,14 @@
 package com.org.example.repository;
 
 import com.org.example.entities.Note;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,20 +18,90 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
     // Find all notes for a topic
     List<Note> findByTopicId(Long topicId);
 
+    // Keyset page of a topic's notes: ids after the cursor, in id order
+    List<Note> findByTopicIdAndIdGreaterThanOrderByIdAsc(Long topicId, Long afterId, Limit limit);
+
+    // Find all notes across every topic of a user
+    @Query("SELECT n FROM Note n WHERE n.topicId IN (SELECT t.id FROM Topic t WHERE t.userId = :userId)")
+    List<Note> findByUserId(@Param("userId") Long userId);
+
     // Find a specific note by id and topicId
     Optional<Note> findByIdAndTopicId(Long id, Long topicId);
 
     // Count notes for a topic
     Long countByTopicId(Long topicId);
 
-    // Search notes by title or content (case-insensitive)
+    @Query("SELECT COUNT(n) FROM Note n WHERE n.topicId IN (SELECT t.id FROM Topic t WHERE t.userId = :userId)")
+    Long countByUserId(@Param("userId") Long userId);
+
+    // Search notes by title, content, code or tags (keyword normalized with SearchText.normalizeQuery)
     @Query("SELECT n FROM Note n WHERE n.topicId = :topicId AND " +
-            "(LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(n.codeSnippet) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+            "n.searchText LIKE CONCAT('%', :keyword, '%')")
     List<Note> searchNotesByKeyword(@Param("topicId") Long topicId,
                                     @Param("keyword") String keyword);
 
+    // Search rows for the given notes, joined to their topics and restricted to the user's topics
+    @Query("SELECT n.id AS id, n.topicId AS topicId, n.title AS title, n.content AS content, " +
+            "n.codeSnippet AS codeSnippet, n.tags AS tags, " +
+            "t.category AS category, t.confidenceLevel AS confidenceLevel " +
+            "FROM Note n JOIN Topic t ON t.id = n.topicId " +
+            "WHERE t.userId = :userId AND n.id IN :ids")
+    List<NoteSearchRow> findSearchRowsByIds(@Param("userId") Long userId,
+                                            @Param("ids") Collection<Long> ids);
+
+    // Search rows of all the user's notes matching a keyword, in a single query
+    @Query("SELECT n.id AS id, n.topicId AS topicId, n.title AS title, n.content AS content, " +
+            "n.codeSnippet AS codeSnippet, n.tags AS tags, " +
+            "t.category AS category, t.confidenceLevel AS confidenceLevel " +
+            "FROM Note n JOIN Topic t ON t.id = n.topicId " +
+            "WHERE t.userId = :userId AND n.searchText LIKE CONCAT('%', :keyword, '%')")
+    List<NoteSearchRow> searchRowsByKeyword(@Param("userId") Long userId,
+                                            @Param("keyword") String keyword);
+
+    // Notes with a tags string but no note_tags rows yet, in id order (tag backfill)
+    @Query("SELECT n FROM Note n WHERE n.id > :afterId AND n.tags IS NOT NULL AND n.tags <> '' AND " +
+            "NOT EXISTS (SELECT 1 FROM NoteTag x WHERE x.noteId = n.id) ORDER BY n.id")
+    List<Note> findUnlinkedTagsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Notes whose search text has not been computed yet (backfill)
+    List<Note> findBySearchHashIsNullOrderByIdAsc(Limit limit);
+
+    // Store the search text without touching updated_at
+    @Modifying
+    @Query("UPDATE Note n SET n.searchText = :searchText, n.searchHash = :searchHash WHERE n.id = :id")
+    void updateSearchText(@Param("id") Long id, @Param("searchText") String searchText,
+                          @Param("searchHash") Long searchHash);
+
+    // FULLTEXT search of the user's notes (natural language mode); needs the ft_notes_search index
+    @Query(value = "SELECT n.id AS id, " +
+            "MATCH(n.title, n.content, n.code_snippet) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score " +
+            "FROM notes n JOIN topics t ON t.id = n.topic_id " +
+            "WHERE t.user_id = :userId AND " +
+            "MATCH(n.title, n.content, n.code_snippet) AGAINST (:query IN NATURAL LANGUAGE MODE)",
+            nativeQuery = true)
+    List<FullTextHit> fullTextSearchNatural(@Param("userId") Long userId, @Param("query") String query);
+
+    // FULLTEXT search of the user's notes (boolean mode, e.g. "+spring -boot")
+    @Query(value = "SELECT n.id AS id, " +
+            "MATCH(n.title, n.content, n.code_snippet) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM notes n JOIN topics t ON t.id = n.topic_id " +
+            "WHERE t.user_id = :userId AND " +
+            "MATCH(n.title, n.content, n.code_snippet) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    List<FullTextHit> fullTextSearchBoolean(@Param("userId") Long userId, @Param("query") String query);
+
+    // FULLTEXT search of a topic's notes (natural language mode)
+    @Query(value = "SELECT * FROM notes n WHERE n.topic_id = :topicId AND " +
+            "MATCH(n.title, n.content, n.code_snippet) AGAINST (:keyword IN NATURAL LANGUAGE MODE)",
+            nativeQuery = true)
+    List<Note> fullTextSearchInTopicNatural(@Param("topicId") Long topicId, @Param("keyword") String keyword);
+
+    // FULLTEXT search of a topic's notes (boolean mode)
+    @Query(value = "SELECT * FROM notes n WHERE n.topic_id = :topicId AND " +
+            "MATCH(n.title, n.content, n.code_snippet) AGAINST (:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    List<Note> fullTextSearchInTopicBoolean(@Param("topicId") Long topicId, @Param("keyword") String keyword);
+
     // Find notes by language
     List<Note> findByTopicIdAndLanguage(Long topicId, String language);
 
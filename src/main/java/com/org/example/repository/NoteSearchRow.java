@@ -0,0 +1,24 @@
+package com.org.example.repository;
+
+/**
+ * Projection of a note joined to its topic, with only the columns search needs
+ * (matching, snippets, filters) - no timestamps, language or entity state.
+ */
+public interface NoteSearchRow {
+
+    Long getId();
+
+    Long getTopicId();
+
+    String getTitle();
+
+    String getContent();
+
+    String getCodeSnippet();
+
+    String getTags();
+
+    String getCategory();           // From the owning topic
+
+    Integer getConfidenceLevel();   // From the owning topic
+}
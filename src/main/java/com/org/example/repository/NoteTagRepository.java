@@ -0,0 +1,38 @@
+package com.org.example.repository;
+
+import com.org.example.entities.NoteTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NoteTagRepository extends JpaRepository<NoteTag, NoteTag.Key> {
+
+    // Drop every tag link of a note
+    @Modifying
+    @Query("DELETE FROM NoteTag nt WHERE nt.noteId = :noteId")
+    void deleteByNoteId(@Param("noteId") Long noteId);
+
+    // Drop the tag links of every note of a topic
+    @Modifying
+    @Query("DELETE FROM NoteTag nt WHERE nt.noteId IN (SELECT n.id FROM Note n WHERE n.topicId = :topicId)")
+    void deleteByTopicId(@Param("topicId") Long topicId);
+
+    // Ids of the user's notes carrying any of the tags (lowercase names)
+    @Query("SELECT DISTINCT nt.noteId FROM NoteTag nt " +
+            "JOIN Tag tg ON tg.id = nt.tagId JOIN Note n ON n.id = nt.noteId JOIN Topic t ON t.id = n.topicId " +
+            "WHERE t.userId = :userId AND tg.name IN :names")
+    List<Long> findNoteIdsByUserIdAndTagNames(@Param("userId") Long userId,
+                                              @Param("names") Collection<String> names);
+
+    // Number of the user's notes per tag
+    @Query("SELECT tg.name AS name, COUNT(nt.noteId) AS count FROM NoteTag nt " +
+            "JOIN Tag tg ON tg.id = nt.tagId JOIN Note n ON n.id = nt.noteId JOIN Topic t ON t.id = n.topicId " +
+            "WHERE t.userId = :userId GROUP BY tg.name")
+    List<TagCount> countByUserId(@Param("userId") Long userId);
+}
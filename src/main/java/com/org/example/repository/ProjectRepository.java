@@ -3,7 +3,9 @@ package com.org.example.repository;
 
 import com.org.example.entities.Project;
 import com.org.example.enums.ProjectStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,6 +29,36 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p FROM Project p JOIN p.topics t WHERE p.userId = :userId AND t.id = :topicId")
     List<Project> findProjectsByTopic(@Param("userId") Long userId, @Param("topicId") Long topicId);
 
+    // Search a user's projects by name or description (keyword normalized with SearchText.normalizeQuery)
+    @Query("SELECT p FROM Project p WHERE p.userId = :userId AND " +
+            "p.searchText LIKE CONCAT('%', :keyword, '%')")
+    List<Project> searchByKeyword(@Param("userId") Long userId, @Param("keyword") String keyword);
+
+    // Projects whose search text has not been computed yet (backfill)
+    List<Project> findBySearchHashIsNullOrderByIdAsc(Limit limit);
+
+    // Store the search text without touching updated_at
+    @Modifying
+    @Query("UPDATE Project p SET p.searchText = :searchText, p.searchHash = :searchHash WHERE p.id = :id")
+    void updateSearchText(@Param("id") Long id, @Param("searchText") String searchText,
+                          @Param("searchHash") Long searchHash);
+
+    // FULLTEXT search of the user's projects (natural language mode); needs the ft_projects_search index
+    @Query(value = "SELECT p.id AS id, " +
+            "MATCH(p.name, p.description) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score " +
+            "FROM projects p WHERE p.user_id = :userId AND " +
+            "MATCH(p.name, p.description) AGAINST (:query IN NATURAL LANGUAGE MODE)",
+            nativeQuery = true)
+    List<FullTextHit> fullTextSearchNatural(@Param("userId") Long userId, @Param("query") String query);
+
+    // FULLTEXT search of the user's projects (boolean mode)
+    @Query(value = "SELECT p.id AS id, " +
+            "MATCH(p.name, p.description) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM projects p WHERE p.user_id = :userId AND " +
+            "MATCH(p.name, p.description) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    List<FullTextHit> fullTextSearchBoolean(@Param("userId") Long userId, @Param("query") String query);
+
     // Count projects for a user
     Long countByUserId(Long userId);
 
@@ -1,6 +1,7 @@
 package com.org.example.repository;
 
 import com.org.example.entities.ReviewSession;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,6 +21,18 @@ public interface ReviewSessionRepository extends JpaRepository<ReviewSession, Lo
 
     List<ReviewSession> findByTopicIdAndUserIdOrderByReviewedAtDesc(Long topicId, Long userId);
 
+    // First keyset page of a user's reviews, newest first
+    List<ReviewSession> findByUserIdOrderByReviewedAtDescIdDesc(Long userId, Limit limit);
+
+    // Next keyset page: reviews strictly older than the (reviewedAt, id) cursor
+    @Query("SELECT r FROM ReviewSession r WHERE r.userId = :userId AND " +
+            "(r.reviewedAt < :reviewedAt OR (r.reviewedAt = :reviewedAt AND r.id < :id)) " +
+            "ORDER BY r.reviewedAt DESC, r.id DESC")
+    List<ReviewSession> findPageBefore(@Param("userId") Long userId,
+                                       @Param("reviewedAt") LocalDateTime reviewedAt,
+                                       @Param("id") Long id,
+                                       Limit limit);
+
     Optional<ReviewSession> findFirstByTopicIdAndUserIdOrderByReviewedAtDesc(Long topicId, Long userId);
 
     // ADD THIS METHOD
@@ -34,8 +47,30 @@ public interface ReviewSessionRepository extends JpaRepository<ReviewSession, Lo
     @Query("SELECT r FROM ReviewSession r WHERE r.userId = :userId AND r.nextReviewDate <= :date")
     List<ReviewSession> findDueReviews(@Param("userId") Long userId, @Param("date") LocalDate date);
 
+    // Reviews scheduling their next review for the given day or earlier
+    @Query("SELECT COUNT(r) FROM ReviewSession r WHERE r.userId = :userId AND r.nextReviewDate <= :date")
+    long countDueReviews(@Param("userId") Long userId, @Param("date") LocalDate date);
+
     Long countByUserId(Long userId);
 
+    @Query("SELECT COUNT(r) AS reviews, COALESCE(SUM(r.rating), 0) AS ratingSum, " +
+            "COALESCE(SUM(r.timeSpentMinutes), 0) AS timeSpentMinutes " +
+            "FROM ReviewSession r WHERE r.userId = :userId")
+    ReviewTotals getTotalsByUserId(@Param("userId") Long userId);
+
+    // The columns the aggregate dashboard engine reads, for all of a user's reviews in one fetch
+    @Query("SELECT r.reviewedAt AS reviewedAt, r.nextReviewDate AS nextReviewDate, " +
+            "r.rating AS rating, r.timeSpentMinutes AS timeSpentMinutes FROM ReviewSession r WHERE r.userId = :userId")
+    List<ReviewStatsRow> findStatsRowsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT r.reviewedAt FROM ReviewSession r WHERE r.userId = :userId ORDER BY r.reviewedAt")
+    List<LocalDateTime> findReviewTimesByUserId(@Param("userId") Long userId);
+
+    // Users with reviews but no streak state yet, in id order (for the backfill)
+    @Query("SELECT DISTINCT r.userId FROM ReviewSession r WHERE r.userId > :afterId AND " +
+            "NOT EXISTS (SELECT s.userId FROM UserStreak s WHERE s.userId = r.userId) ORDER BY r.userId")
+    List<Long> findUserIdsWithoutStreakAfter(@Param("afterId") Long afterId, Limit limit);
+
     Long countByTopicIdAndUserId(Long topicId, Long userId);
 
     @Query("SELECT AVG(r.rating) FROM ReviewSession r WHERE r.topicId = :topicId AND r.userId = :userId")
@@ -47,5 +82,11 @@ public interface ReviewSessionRepository extends JpaRepository<ReviewSession, Lo
     @Query("SELECT COUNT(r) FROM ReviewSession r WHERE r.userId = :userId AND r.reviewedAt >= :sinceDate")
     Long countRecentReviews(@Param("userId") Long userId, @Param("sinceDate") LocalDateTime sinceDate);
 
+    // Reviews completed per month since the given time (one row per month that has any)
+    @Query("SELECT YEAR(r.reviewedAt) AS year, MONTH(r.reviewedAt) AS month, COUNT(r) AS count " +
+            "FROM ReviewSession r WHERE r.userId = :userId AND r.reviewedAt >= :since " +
+            "GROUP BY YEAR(r.reviewedAt), MONTH(r.reviewedAt)")
+    List<MonthlyCount> countReviewsByMonth(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
     void deleteByTopicId(Long topicId);
 }
@@ -0,0 +1,18 @@
+package com.org.example.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a review session with only the columns the dashboard aggregates
+ */
+public interface ReviewStatsRow {
+
+    LocalDateTime getReviewedAt();
+
+    LocalDate getNextReviewDate();
+
+    Integer getRating();
+
+    Integer getTimeSpentMinutes();
+}
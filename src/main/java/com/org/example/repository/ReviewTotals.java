@@ -0,0 +1,13 @@
+package com.org.example.repository;
+
+/**
+ * Aggregates of all review sessions of a user
+ */
+public interface ReviewTotals {
+
+    Long getReviews();
+
+    Long getRatingSum();
+
+    Long getTimeSpentMinutes();
+}
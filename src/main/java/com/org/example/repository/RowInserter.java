@@ -0,0 +1,31 @@
+package com.org.example.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Portable insert-or-skip (instead of MySQL's INSERT IGNORE) for rows that concurrent transactions
+ * may both try to create: insert in a transaction of its own, and on a duplicate key re-read the
+ * row the other transaction committed. Only the failed insert is rolled back, not the caller's work.
+ */
+@Repository
+public class RowInserter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Insert the new entity and commit it at once (needs a second connection while the caller's
+     * transaction is open, so only use it for the first write of a row)
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException when the row already exists
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insert(Object entity) {
+        entityManager.persist(entity);
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,32 @@
+package com.org.example.repository;
+
+import com.org.example.entities.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByUserIdOrderByNameAsc(Long userId);
+
+    Optional<SavedSearch> findByIdAndUserId(Long id, Long userId);
+
+    long countByUserId(Long userId);
+
+    // Saved searches of a user that have a query (their results cannot be re-checked one item at a time)
+    @Modifying
+    @Query("UPDATE SavedSearch s SET s.stale = true " +
+            "WHERE s.userId = :userId AND s.query IS NOT NULL AND s.query <> ''")
+    int markQuerySearchesStale(@Param("userId") Long userId);
+
+    // Due-for-review and at-risk results move with the date, not with writes
+    @Modifying
+    @Query("UPDATE SavedSearch s SET s.stale = true WHERE s.onlyDueForReview = true OR s.onlyAtRisk = true")
+    int markTimeDependentStale();
+}
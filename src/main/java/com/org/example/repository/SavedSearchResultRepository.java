@@ -0,0 +1,29 @@
+package com.org.example.repository;
+
+import com.org.example.entities.SavedSearchResult;
+import com.org.example.enums.ContentType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SavedSearchResultRepository extends JpaRepository<SavedSearchResult, Long> {
+
+    Page<SavedSearchResult> findBySavedSearchId(Long savedSearchId, Pageable pageable);
+
+    List<SavedSearchResult> findBySavedSearchIdInAndContentTypeAndContentId(Collection<Long> savedSearchIds,
+                                                                            ContentType contentType, Long contentId);
+
+    long countBySavedSearchId(Long savedSearchId);
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchResult r WHERE r.savedSearchId = :savedSearchId")
+    void deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+}
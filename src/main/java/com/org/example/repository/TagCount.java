@@ -0,0 +1,11 @@
+package com.org.example.repository;
+
+/**
+ * A tag name and how many of a user's topics or notes carry it
+ */
+public interface TagCount {
+
+    String getName();
+
+    Long getCount();
+}
@@ -0,0 +1,21 @@
+package com.org.example.repository;
+
+import com.org.example.entities.Tag;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    // Look up tags by (lowercase) name
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // Locking read: sees tags committed by other transactions after this one started
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Tag> findLockedByNameIn(Collection<String> names);
+}
@@ -1,18 +1,46 @@
 package com.org.example.repository;
 
 import com.org.example.entities.Topic;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TopicRepository extends JpaRepository<Topic, Long> {
+public interface TopicRepository extends JpaRepository<Topic, Long>, JpaSpecificationExecutor<Topic>,
+        TopicRepositoryCustom {
 
     // Find all topics for a user
     List<Topic> findByUserId(Long userId);
 
+    // Keyset page of a user's topics: ids after the cursor, in id order
+    List<Topic> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Limit limit);
+
+    // Keyset page of a user's topics in one category
+    List<Topic> findByUserIdAndCategoryAndIdGreaterThanOrderByIdAsc(Long userId, String category,
+                                                                    Long afterId, Limit limit);
+
+    // Topics with a tags string but no topic_tags rows yet, in id order (tag backfill)
+    @Query("SELECT t FROM Topic t WHERE t.id > :afterId AND t.tags IS NOT NULL AND t.tags <> '' AND " +
+            "NOT EXISTS (SELECT 1 FROM TopicTag x WHERE x.topicId = t.id) ORDER BY t.id")
+    List<Topic> findUnlinkedTagsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Topics whose search text has not been computed yet (backfill)
+    List<Topic> findBySearchHashIsNullOrderByIdAsc(Limit limit);
+
+    // Store the search text without touching updated_at
+    @Modifying
+    @Query("UPDATE Topic t SET t.searchText = :searchText, t.searchHash = :searchHash WHERE t.id = :id")
+    void updateSearchText(@Param("id") Long id, @Param("searchText") String searchText,
+                          @Param("searchHash") Long searchHash);
+
     // Find topics by user and category
     List<Topic> findByUserIdAndCategory(Long userId, String category);
 
@@ -31,6 +59,47 @@ public interface TopicRepository extends JpaRepository<Topic, Long> {
     // Count total topics for a user
     Long countByUserId(Long userId);
 
+    // Topics last reviewed before the given day ("at risk"), counted on the (user_id, last_reviewed) index
+    long countByUserIdAndLastReviewedBefore(Long userId, LocalDate date);
+
+    // Counts, confidence sum and learned-date range of a user's topics in one pass
+    @Query("SELECT COUNT(t) AS topics, " +
+            "COALESCE(SUM(t.confidenceLevel), 0) AS confidenceSum, " +
+            "COUNT(t.confidenceLevel) AS confidenceCount, " +
+            "MIN(t.learnedDate) AS firstLearnedDate, MAX(t.learnedDate) AS lastLearnedDate " +
+            "FROM Topic t WHERE t.userId = :userId")
+    TopicTotals getTotalsByUserId(@Param("userId") Long userId);
+
+    // The columns the aggregate dashboard engine reads, for all of a user's topics in one fetch
+    @Query("SELECT t.confidenceLevel AS confidenceLevel, t.category AS category, " +
+            "t.learnedDate AS learnedDate, t.lastReviewed AS lastReviewed FROM Topic t WHERE t.userId = :userId")
+    List<TopicStatsRow> findStatsRowsByUserId(@Param("userId") Long userId);
+
+    // Count and confidence bands per category of a user, largest first (topics without a category are left out)
+    @Query("SELECT t.category AS category, COUNT(t) AS topics, " +
+            "COALESCE(SUM(t.confidenceLevel), 0) AS confidenceSum, " +
+            "COUNT(t.confidenceLevel) AS confidenceCount, " +
+            "COALESCE(SUM(CASE WHEN t.confidenceLevel < :weakBelow THEN 1 ELSE 0 END), 0) AS weakTopics, " +
+            "COALESCE(SUM(CASE WHEN t.confidenceLevel >= :weakBelow AND t.confidenceLevel < :strongFrom " +
+            "THEN 1 ELSE 0 END), 0) AS moderateTopics, " +
+            "COALESCE(SUM(CASE WHEN t.confidenceLevel >= :strongFrom THEN 1 ELSE 0 END), 0) AS strongTopics " +
+            "FROM Topic t WHERE t.userId = :userId AND t.category IS NOT NULL " +
+            "GROUP BY t.category ORDER BY COUNT(t) DESC, t.category")
+    List<CategoryTotals> getCategoryTotalsByUserId(@Param("userId") Long userId,
+                                                   @Param("weakBelow") int weakBelow,
+                                                   @Param("strongFrom") int strongFrom);
+
+    // Topics per confidence level of a user, one index scan (null level = no confidence)
+    @Query("SELECT t.confidenceLevel AS level, COUNT(t) AS count FROM Topic t WHERE t.userId = :userId " +
+            "GROUP BY t.confidenceLevel")
+    List<ConfidenceCount> countByConfidenceLevel(@Param("userId") Long userId);
+
+    // Topics learned per month since the given day (one row per month that has any)
+    @Query("SELECT YEAR(t.learnedDate) AS year, MONTH(t.learnedDate) AS month, COUNT(t) AS count " +
+            "FROM Topic t WHERE t.userId = :userId AND t.learnedDate >= :since " +
+            "GROUP BY YEAR(t.learnedDate), MONTH(t.learnedDate)")
+    List<MonthlyCount> countLearnedByMonth(@Param("userId") Long userId, @Param("since") LocalDate since);
+
     // Check if topic exists for user
     boolean existsByIdAndUserId(Long id, Long userId);
 }
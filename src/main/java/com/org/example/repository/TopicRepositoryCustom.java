@@ -0,0 +1,15 @@
+package com.org.example.repository;
+
+import com.org.example.entities.Topic;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TopicRepositoryCustom {
+
+    /**
+     * Whether the topic matches each of the specifications, evaluated in one query
+     * (all false when the topic does not exist)
+     */
+    List<Boolean> matchesEach(Long topicId, List<Specification<Topic>> specifications);
+}
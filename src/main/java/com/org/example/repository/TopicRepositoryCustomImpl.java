@@ -0,0 +1,56 @@
+package com.org.example.repository;
+
+import com.org.example.entities.Topic;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SELECT id, CASE WHEN spec1 THEN 1 ELSE 0 END, ... FROM topics WHERE id = :topicId
+ */
+public class TopicRepositoryCustomImpl implements TopicRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Boolean> matchesEach(Long topicId, List<Specification<Topic>> specifications) {
+        if (specifications.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Topic> root = query.from(Topic.class);
+
+        // The id column keeps the row an array even for a single specification
+        List<Selection<?>> columns = new ArrayList<>();
+        columns.add(root.get("id"));
+        for (Specification<Topic> specification : specifications) {
+            columns.add(cb.<Integer>selectCase()
+                    .when(specification.toPredicate(root, query, cb), 1)
+                    .otherwise(0));
+        }
+        query.multiselect(columns).where(cb.equal(root.get("id"), topicId));
+
+        List<Object[]> rows = entityManager.createQuery(query).getResultList();
+        if (rows.isEmpty()) {
+            return new ArrayList<>(Collections.nCopies(specifications.size(), false));
+        }
+
+        List<Boolean> result = new ArrayList<>();
+        Object[] row = rows.get(0);
+        for (int i = 1; i < row.length; i++) {
+            result.add(((Number) row[i]).intValue() == 1);
+        }
+        return result;
+    }
+}
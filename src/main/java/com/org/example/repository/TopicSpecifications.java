@@ -0,0 +1,110 @@
+package com.org.example.repository;
+
+import com.org.example.dto.SearchRequest;
+import com.org.example.entities.ReviewSession;
+import com.org.example.entities.Tag;
+import com.org.example.entities.Topic;
+import com.org.example.entities.TopicTag;
+import com.org.example.util.TagNames;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Translates SearchRequest filters into SQL predicates on topics, so only matching rows are read.
+ * Null confidence levels and learned dates pass the range filters, as they do for notes and projects.
+ */
+public final class TopicSpecifications {
+
+    // Topics not reviewed for this long are "at risk" (same threshold as the dashboard)
+    public static final int AT_RISK_DAYS = 90;
+
+    private TopicSpecifications() {
+    }
+
+    /**
+     * The user's topics matching every filter of the request (the query text is not considered)
+     */
+    public static Specification<Topic> matching(Long userId, SearchRequest request) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("userId"), userId));
+
+            if (request.getCategories() != null && !request.getCategories().isEmpty()) {
+                predicates.add(root.get("category").in(request.getCategories()));
+            }
+
+            // Any of the tags, looked up through the topic_tags index
+            if (request.getTags() != null && !request.getTags().isEmpty()) {
+                Subquery<Long> tagged = query.subquery(Long.class);
+                Root<TopicTag> link = tagged.from(TopicTag.class);
+                Root<Tag> tag = tagged.from(Tag.class);
+                tagged.select(link.get("topicId")).where(
+                        cb.equal(link.get("topicId"), root.get("id")),
+                        cb.equal(link.get("tagId"), tag.get("id")),
+                        tag.get("name").in(TagNames.normalize(request.getTags())));
+                predicates.add(cb.exists(tagged));
+            }
+
+            if (request.getMinConfidence() != null) {
+                predicates.add(nullOr(cb, root, "confidenceLevel",
+                        cb.greaterThanOrEqualTo(root.get("confidenceLevel"), request.getMinConfidence())));
+            }
+            if (request.getMaxConfidence() != null) {
+                predicates.add(nullOr(cb, root, "confidenceLevel",
+                        cb.lessThanOrEqualTo(root.get("confidenceLevel"), request.getMaxConfidence())));
+            }
+
+            if (request.getLearnedAfter() != null) {
+                predicates.add(nullOr(cb, root, "learnedDate",
+                        cb.greaterThanOrEqualTo(root.get("learnedDate"), request.getLearnedAfter())));
+            }
+            if (request.getLearnedBefore() != null) {
+                predicates.add(nullOr(cb, root, "learnedDate",
+                        cb.lessThanOrEqualTo(root.get("learnedDate"), request.getLearnedBefore())));
+            }
+
+            // A review session of the topic scheduled the next review for today or earlier
+            if (Boolean.TRUE.equals(request.getOnlyDueForReview())) {
+                Subquery<Long> due = query.subquery(Long.class);
+                Root<ReviewSession> review = due.from(ReviewSession.class);
+                due.select(review.get("id")).where(
+                        cb.equal(review.get("topicId"), root.get("id")),
+                        cb.lessThanOrEqualTo(review.get("nextReviewDate"), LocalDate.now()));
+                predicates.add(cb.exists(due));
+            }
+
+            if (Boolean.TRUE.equals(request.getOnlyAtRisk())) {
+                predicates.add(cb.lessThan(root.get("lastReviewed"), LocalDate.now().minusDays(AT_RISK_DAYS)));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Topic> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Stored search text contains the (already normalized) keyword
+     */
+    public static Specification<Topic> searchTextContains(String keyword) {
+        return (root, query, cb) -> cb.like(root.get("searchText"), "%" + escapeLike(keyword) + "%", '\\');
+    }
+
+    private static Predicate nullOr(CriteriaBuilder cb, Root<Topic> root, String field, Predicate predicate) {
+        return cb.or(cb.isNull(root.get(field)), predicate);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
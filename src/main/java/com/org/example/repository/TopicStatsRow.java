@@ -0,0 +1,17 @@
+package com.org.example.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of a topic with only the columns the dashboard aggregates
+ */
+public interface TopicStatsRow {
+
+    Integer getConfidenceLevel();
+
+    String getCategory();
+
+    LocalDate getLearnedDate();
+
+    LocalDate getLastReviewed();
+}
@@ -0,0 +1,33 @@
+package com.org.example.repository;
+
+import com.org.example.entities.TopicTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TopicTagRepository extends JpaRepository<TopicTag, TopicTag.Key> {
+
+    // Drop every tag link of a topic
+    @Modifying
+    @Query("DELETE FROM TopicTag tt WHERE tt.topicId = :topicId")
+    void deleteByTopicId(@Param("topicId") Long topicId);
+
+    // Ids of the user's topics carrying any of the tags (lowercase names)
+    @Query("SELECT DISTINCT tt.topicId FROM TopicTag tt " +
+            "JOIN Tag tg ON tg.id = tt.tagId JOIN Topic t ON t.id = tt.topicId " +
+            "WHERE t.userId = :userId AND tg.name IN :names")
+    List<Long> findTopicIdsByUserIdAndTagNames(@Param("userId") Long userId,
+                                               @Param("names") Collection<String> names);
+
+    // Number of the user's topics per tag
+    @Query("SELECT tg.name AS name, COUNT(tt.topicId) AS count FROM TopicTag tt " +
+            "JOIN Tag tg ON tg.id = tt.tagId JOIN Topic t ON t.id = tt.topicId " +
+            "WHERE t.userId = :userId GROUP BY tg.name")
+    List<TagCount> countByUserId(@Param("userId") Long userId);
+}
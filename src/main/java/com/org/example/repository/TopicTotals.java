@@ -0,0 +1,19 @@
+package com.org.example.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Aggregates of all topics of a user
+ */
+public interface TopicTotals {
+
+    Long getTopics();
+
+    Long getConfidenceSum();
+
+    Long getConfidenceCount();
+
+    LocalDate getFirstLearnedDate();
+
+    LocalDate getLastLearnedDate();
+}
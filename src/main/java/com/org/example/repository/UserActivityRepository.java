@@ -0,0 +1,26 @@
+package com.org.example.repository;
+
+import com.org.example.entities.UserActivity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserActivityRepository extends JpaRepository<UserActivity, Long> {
+
+    // Row lock, so concurrent reviews of one user do not overwrite each other's bit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserActivity> findForUpdateByUserId(Long userId);
+
+    // Users with reviews but no activity bitmap yet, in id order (for the backfill)
+    @Query("SELECT DISTINCT r.userId FROM ReviewSession r WHERE r.userId > :afterId AND " +
+            "NOT EXISTS (SELECT a.userId FROM UserActivity a WHERE a.userId = r.userId) ORDER BY r.userId")
+    List<Long> findUserIdsWithoutActivityAfter(@Param("afterId") Long afterId, Limit limit);
+}
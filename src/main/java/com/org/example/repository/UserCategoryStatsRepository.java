@@ -0,0 +1,14 @@
+package com.org.example.repository;
+
+import com.org.example.entities.UserCategoryStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserCategoryStatsRepository extends JpaRepository<UserCategoryStats, Long> {
+
+    // A user's categories, largest first
+    List<UserCategoryStats> findByUserIdOrderByTopicsDescCategoryAsc(Long userId);
+}
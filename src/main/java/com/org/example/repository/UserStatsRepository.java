@@ -0,0 +1,17 @@
+package com.org.example.repository;
+
+import com.org.example.entities.UserStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    // Row lock, so concurrent writes of one user recompute their totals one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserStats> findForUpdateByUserId(Long userId);
+}
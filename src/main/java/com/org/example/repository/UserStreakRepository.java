@@ -0,0 +1,17 @@
+package com.org.example.repository;
+
+import com.org.example.entities.UserStreak;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserStreakRepository extends JpaRepository<UserStreak, Long> {
+
+    // Row lock, so two reviews of one user on the same day cannot both extend the streak
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserStreak> findForUpdateByUserId(Long userId);
+}
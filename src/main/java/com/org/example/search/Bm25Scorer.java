@@ -0,0 +1,28 @@
+package com.org.example.search;
+
+/**
+ * Okapi BM25 term weighting.
+ *
+ * score(term, doc) = idf(term) * tf * (k1 + 1) / (tf + k1 * (1 - b + b * docLength / avgDocLength))
+ * idf(term)        = ln(1 + (N - df + 0.5) / (df + 0.5))
+ */
+public final class Bm25Scorer {
+
+    // Term frequency saturation: higher values let repeated terms count for more
+    private static final double K1 = 1.2;
+
+    // Length normalization: 0 ignores document length, 1 fully normalizes by it
+    private static final double B = 0.75;
+
+    private Bm25Scorer() {
+    }
+
+    public static double idf(int documentCount, int documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    public static double termScore(double idf, int termFrequency, int documentLength, double averageDocumentLength) {
+        double lengthNorm = averageDocumentLength > 0 ? documentLength / averageDocumentLength : 1.0;
+        return idf * termFrequency * (K1 + 1) / (termFrequency + K1 * (1 - B + B * lengthNorm));
+    }
+}
@@ -0,0 +1,78 @@
+package com.org.example.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns raw user input into a query InnoDB accepts in BOOLEAN MODE.
+ *
+ * Supported syntax is kept: a leading +, -, ~, &lt; or &gt; on a word, a trailing * (prefix) and
+ * "phrases" when the quotes are balanced. Every other operator character (parentheses, '@',
+ * stray quotes, operators inside words as in "c++") is treated as a word separator, since
+ * InnoDB rejects such input with a syntax error.
+ */
+public final class BooleanModeQuery {
+
+    private static final String WORD_OPERATORS = "+-~<>";
+
+    private BooleanModeQuery() {
+    }
+
+    public static String sanitize(String query) {
+        if (query == null || query.isBlank()) {
+            return "";
+        }
+
+        List<String> terms = new ArrayList<>();
+        boolean phrases = query.chars().filter(c -> c == '"').count() % 2 == 0;
+        String[] segments = phrases ? query.split("\"", -1) : new String[]{query.replace('"', ' ')};
+
+        for (int i = 0; i < segments.length; i++) {
+            if (i % 2 == 1) {
+                List<String> words = words(segments[i]);
+                if (!words.isEmpty()) {
+                    terms.add("\"" + String.join(" ", words) + "\"");
+                }
+                continue;
+            }
+            for (String word : segments[i].trim().split("\\s+")) {
+                addTerm(word, terms);
+            }
+        }
+
+        return String.join(" ", terms);
+    }
+
+    // Helper: One whitespace-separated word with its operator and prefix star
+    private static void addTerm(String word, List<String> terms) {
+        if (word.isEmpty()) {
+            return;
+        }
+        String operator = word.length() > 1 && WORD_OPERATORS.indexOf(word.charAt(0)) >= 0
+                ? word.substring(0, 1) : "";
+        boolean prefix = word.endsWith("*");
+
+        List<String> parts = words(word);
+        for (int i = 0; i < parts.size(); i++) {
+            boolean last = i == parts.size() - 1;
+            terms.add(operator + parts.get(i) + (prefix && last ? "*" : ""));
+        }
+    }
+
+    // Helper: Runs of letters, digits and '_'
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length()
+                    && (Character.isLetterOrDigit(text.charAt(i)) || text.charAt(i) == '_');
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
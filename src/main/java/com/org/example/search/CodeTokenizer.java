@@ -0,0 +1,163 @@
+package com.org.example.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Language-aware tokenizer for note code snippets.
+ *
+ * Identifiers are emitted whole (lowercase, without '_'/'$') and, when they are compound,
+ * also split into their camelCase / snake_case parts, so "HashMap" in
+ * {@code new HashMap<>()} is found by "hashmap", "hash" and "map". Punctuation is
+ * dropped, except for a few multi-character operators which are indexed as symbols.
+ */
+public final class CodeTokenizer {
+
+    // Operators worth searching for on their own (lambdas, method refs, comparisons)
+    public static final Set<String> SYMBOLS = Set.of("->", "=>", "::", "==", "!=", "<>", "&&", "||");
+
+    private enum Language {
+        JAVA, PYTHON, JAVASCRIPT, SQL, OTHER;
+
+        static Language of(String name) {
+            if (name == null) return OTHER;
+            switch (name.trim().toLowerCase()) {
+                case "java":
+                case "kotlin":
+                    return JAVA;
+                case "python":
+                case "py":
+                    return PYTHON;
+                case "javascript":
+                case "js":
+                case "typescript":
+                case "ts":
+                    return JAVASCRIPT;
+                case "sql":
+                case "mysql":
+                    return SQL;
+                default:
+                    return OTHER;
+            }
+        }
+
+        // SQL identifiers are case-insensitive, so case changes carry no word boundary
+        boolean splitsCamelCase() {
+            return this != SQL;
+        }
+
+        // "<>" is SQL's not-equal; in Java and JavaScript it is a generic diamond / JSX fragment
+        boolean hasSymbol(String symbol) {
+            return !symbol.equals("<>") || this == SQL || this == OTHER;
+        }
+
+        // '$' is part of identifiers in JavaScript (and Java), punctuation elsewhere
+        boolean isIdentifierPart(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || (c == '$' && (this == JAVASCRIPT || this == JAVA));
+        }
+    }
+
+    private CodeTokenizer() {
+    }
+
+    public static List<String> tokenize(String code, String languageName) {
+        List<String> tokens = new ArrayList<>();
+        if (code == null || code.isEmpty()) {
+            return tokens;
+        }
+
+        Language language = Language.of(languageName);
+        int i = 0;
+        while (i < code.length()) {
+            char c = code.charAt(i);
+
+            if (language.isIdentifierPart(c)) {
+                int start = i;
+                while (i < code.length() && language.isIdentifierPart(code.charAt(i))) {
+                    i++;
+                }
+                addIdentifier(code.substring(start, i), language, tokens);
+                continue;
+            }
+
+            String symbol = symbolAt(code, i);
+            if (symbol != null && language.hasSymbol(symbol)) {
+                tokens.add(symbol);
+                i += symbol.length();
+                continue;
+            }
+
+            i++;
+        }
+
+        return tokens;
+    }
+
+    /**
+     * The code symbol starting at the given position, or null
+     */
+    public static String symbolAt(String text, int index) {
+        if (index + 2 > text.length()) {
+            return null;
+        }
+        String candidate = text.substring(index, index + 2);
+        return SYMBOLS.contains(candidate) ? candidate : null;
+    }
+
+    // Helper: Emit the whole identifier plus its parts when it is compound
+    private static void addIdentifier(String identifier, Language language, List<String> tokens) {
+        List<String> parts = splitIdentifier(identifier, language);
+        if (parts.isEmpty()) {
+            return;
+        }
+
+        tokens.add(String.join("", parts));
+        if (parts.size() > 1) {
+            tokens.addAll(parts);
+        }
+    }
+
+    // Helper: Split on '_', '$' and case changes ("parseHTTPResponse" -> parse, http, response)
+    private static List<String> splitIdentifier(String identifier, Language language) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+
+        for (int i = 0; i <= identifier.length(); i++) {
+            boolean boundary;
+            boolean separator = false;
+
+            if (i == identifier.length()) {
+                boundary = true;
+            } else {
+                char c = identifier.charAt(i);
+                separator = c == '_' || c == '$';
+                boundary = separator || (language.splitsCamelCase() && i > start && isCaseBoundary(identifier, i));
+            }
+
+            if (boundary) {
+                if (i > start) {
+                    parts.add(identifier.substring(start, i).toLowerCase());
+                }
+                start = separator ? i + 1 : i;
+            }
+        }
+
+        return parts;
+    }
+
+    // Helper: "aB" starts a word at B, and so does "ABc" at B (end of an acronym)
+    private static boolean isCaseBoundary(String identifier, int i) {
+        char previous = identifier.charAt(i - 1);
+        char current = identifier.charAt(i);
+        if (!Character.isUpperCase(current)) {
+            return false;
+        }
+        if (Character.isLowerCase(previous) || Character.isDigit(previous)) {
+            return true;
+        }
+        return Character.isUpperCase(previous)
+                && i + 1 < identifier.length()
+                && Character.isLowerCase(identifier.charAt(i + 1));
+    }
+}
@@ -0,0 +1,143 @@
+package com.org.example.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index over the terms typo-tolerant search may correct a query token to
+ * (topic names, tags and note titles). Terms are reference counted per document.
+ *
+ * A lookup only walks the postings of the query token's rarest trigrams (a term within the
+ * edit budget must contain at least one of them), visits at most {@link #SCAN_CAP} postings
+ * and verifies the terms sharing the most trigrams, up to a candidate cap. Its cost is thus
+ * bounded, but in a very large vocabulary a correction reachable only through common
+ * trigrams can be missed. Not thread-safe; {@link UserSearchIndex} guards it with its lock.
+ */
+public class FuzzyVocabulary {
+
+    // Upper bound on trigram postings visited per lookup
+    static final int SCAN_CAP = 2000;
+
+    // term -> number of documents using it
+    private final Map<String, Integer> termCounts = new HashMap<>();
+
+    // trigram -> terms containing it
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+
+    // document -> terms it contributed
+    private final Map<SearchDocKey, Set<String>> documents = new HashMap<>();
+
+    public void put(SearchDocKey key, Collection<String> terms) {
+        remove(key);
+        if (terms.isEmpty()) {
+            return;
+        }
+
+        Set<String> unique = new HashSet<>(terms);
+        documents.put(key, unique);
+        for (String term : unique) {
+            if (termCounts.merge(term, 1, Integer::sum) == 1) {
+                for (String trigram : trigramsOf(term)) {
+                    trigrams.computeIfAbsent(trigram, t -> new HashSet<>()).add(term);
+                }
+            }
+        }
+    }
+
+    public void remove(SearchDocKey key) {
+        Set<String> previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+
+        for (String term : previous) {
+            if (termCounts.merge(term, -1, Integer::sum) == 0) {
+                termCounts.remove(term);
+                for (String trigram : trigramsOf(term)) {
+                    Set<String> terms = trigrams.get(trigram);
+                    if (terms != null) {
+                        terms.remove(term);
+                        if (terms.isEmpty()) {
+                            trigrams.remove(trigram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Vocabulary terms (other than the token itself) within maxEdits of the token,
+     * checking at most candidateCap candidates
+     */
+    public Set<String> corrections(String token, int maxEdits, int candidateCap) {
+        Set<String> result = new LinkedHashSet<>();
+        if (maxEdits <= 0) {
+            return result;
+        }
+
+        // Each edit destroys at most three of the token's trigrams, so a term within maxEdits
+        // shares at least minShared of them - and so contains one of the (n - minShared + 1) rarest
+        List<Set<String>> postings = new ArrayList<>();
+        for (String trigram : new LinkedHashSet<>(trigramsOf(token))) {
+            postings.add(trigrams.getOrDefault(trigram, Set.of()));
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        int minShared = Math.max(1, postings.size() - 3 * maxEdits);
+        int seeds = postings.size() - minShared + 1;
+
+        Map<String, Integer> shared = new HashMap<>();
+        int scanned = 0;
+        seeding:
+        for (int i = 0; i < seeds; i++) {
+            for (String term : postings.get(i)) {
+                if (++scanned > SCAN_CAP) {
+                    break seeding;
+                }
+                if (shared.containsKey(term) || Math.abs(term.length() - token.length()) > maxEdits) {
+                    continue;
+                }
+                int count = 0;
+                for (Set<String> terms : postings) {
+                    if (terms.contains(term)) {
+                        count++;
+                    }
+                }
+                shared.put(term, count);
+            }
+        }
+
+        List<Map.Entry<String, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+            if (entry.getValue() >= minShared && !entry.getKey().equals(token)) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+        for (int i = 0; i < candidates.size() && i < candidateCap; i++) {
+            String term = candidates.get(i).getKey();
+            if (Levenshtein.distance(token, term, maxEdits) <= maxEdits) {
+                result.add(term);
+            }
+        }
+        return result;
+    }
+
+    // Helper: Trigrams of the term padded with '$' ("java" -> $$j, $ja, jav, ava, va$)
+    private static List<String> trigramsOf(String term) {
+        String padded = "$$" + term + "$";
+        List<String> result = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+}
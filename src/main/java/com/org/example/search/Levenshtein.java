@@ -0,0 +1,56 @@
+package com.org.example.search;
+
+/**
+ * Edit distance with an upper bound, for typo-tolerant matching
+ */
+public final class Levenshtein {
+
+    private Levenshtein() {
+    }
+
+    /**
+     * Levenshtein distance between a and b, or max + 1 as soon as it is known to exceed max.
+     * Only the diagonal band of width 2 * max + 1 is computed, so the cost is O(len * max).
+     */
+    public static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+
+        int inf = max + 1;
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j <= max ? j : inf;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - max);
+            int to = Math.min(b.length(), i + max);
+            current[0] = i <= max ? i : inf;
+            if (from > 1) {
+                current[from - 1] = inf;
+            }
+
+            int rowMin = current[0];
+            for (int j = from; j <= to; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(previous[j - 1] + cost, Math.min(previous[j] + 1, current[j - 1] + 1));
+                current[j] = Math.min(value, inf);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < b.length()) {
+                current[to + 1] = inf;
+            }
+            if (rowMin > max) {
+                return inf;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return Math.min(previous[b.length()], inf);
+    }
+}
@@ -0,0 +1,13 @@
+package com.org.example.search;
+
+import com.org.example.enums.ContentType;
+import lombok.Value;
+
+/**
+ * Identifies one indexed document (a topic, note or project)
+ */
+@Value
+public class SearchDocKey {
+    ContentType type;
+    Long id;
+}
@@ -0,0 +1,68 @@
+package com.org.example.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Normalized search text stored alongside topics, notes and projects.
+ * The text is the document's tokens joined by single spaces, so LIKE queries and the
+ * in-memory index can use it directly without re-reading and lowercasing every field.
+ */
+public final class SearchText {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SearchText() {
+    }
+
+    /**
+     * Normalize free-text fields (nulls are skipped)
+     */
+    public static String normalize(String... fields) {
+        List<String> tokens = new ArrayList<>();
+        for (String field : fields) {
+            tokens.addAll(SearchTokenizer.tokenize(field));
+        }
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * Append already tokenized text (e.g. from {@link CodeTokenizer}) to normalized text
+     */
+    public static String append(String normalized, List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return normalized;
+        }
+        String extra = String.join(" ", tokens);
+        return normalized.isEmpty() ? extra : normalized + " " + extra;
+    }
+
+    /**
+     * Normalize a query the same way, for matching against stored text
+     */
+    public static String normalizeQuery(String query) {
+        return normalize(query);
+    }
+
+    public static List<String> tokens(String normalized) {
+        if (normalized == null || normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.asList(normalized.split(" "));
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the normalized text, to tell cheaply whether it changed
+     */
+    public static long hash(String normalized) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : normalized.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,44 @@
+package com.org.example.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits free text into lowercase alphanumeric tokens.
+ * Used both when indexing documents and when parsing queries so both sides agree.
+ * Code operators such as "->" are kept as tokens so queries can match {@link CodeTokenizer} symbols.
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) start = i;
+                continue;
+            }
+            if (start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+            String symbol = CodeTokenizer.symbolAt(text, i);
+            if (symbol != null) {
+                tokens.add(symbol);
+                i++;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(text.substring(start).toLowerCase());
+        }
+
+        return tokens;
+    }
+}
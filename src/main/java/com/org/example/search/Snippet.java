@@ -0,0 +1,20 @@
+package com.org.example.search;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A preview window of a document with the character ranges (within the snippet text) matching the query
+ */
+@Value
+public class Snippet {
+    String text;
+    List<Span> highlights;
+
+    @Value
+    public static class Span {
+        int start;  // inclusive
+        int end;    // exclusive
+    }
+}
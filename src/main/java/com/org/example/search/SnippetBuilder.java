@@ -0,0 +1,170 @@
+package com.org.example.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Picks the best preview window of a document for a query and marks the matching tokens.
+ *
+ * The text is scanned once for token boundaries (the same letter/digit rule as {@link SearchTokenizer})
+ * and tokens are compared to the query case-insensitively in place, so the document is never
+ * lowercased or copied; only the chosen window is. A token matches when it starts with a query token,
+ * as in the index. The window with the most distinct query tokens (then the most matches) wins.
+ */
+public final class SnippetBuilder {
+
+    private static final String ELLIPSIS = "...";
+
+    // Stop collecting matches after this many; enough to find a good window in huge documents
+    private static final int MAX_MATCHES = 1000;
+
+    private SnippetBuilder() {
+    }
+
+    /**
+     * Best snippet across several fields of a document (earlier fields win ties); null fields are skipped
+     */
+    public static Snippet build(List<String> fields, List<String> queryTokens, int maxLength) {
+        List<String> terms = wordTerms(queryTokens);
+
+        Window best = null;
+        String bestField = null;
+        for (String field : fields) {
+            if (field == null || field.isEmpty()) {
+                continue;
+            }
+            Window window = bestWindow(field, terms, maxLength);
+            if (best == null || window.score > best.score) {
+                best = window;
+                bestField = field;
+            }
+        }
+
+        if (best == null) {
+            return new Snippet("", Collections.emptyList());
+        }
+        return render(bestField, best);
+    }
+
+    // Helper: Query tokens that can match text tokens (operator symbols never appear as text tokens)
+    private static List<String> wordTerms(List<String> queryTokens) {
+        List<String> terms = new ArrayList<>();
+        for (String token : queryTokens) {
+            if (!token.isEmpty() && Character.isLetterOrDigit(token.charAt(0)) && !terms.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    // Helper: Slide a window of maxLength characters over the matches and keep the best-scoring one
+    private static Window bestWindow(String text, List<String> terms, int maxLength) {
+        List<int[]> matches = findMatches(text, terms); // {start, end, term index}
+        if (matches.isEmpty()) {
+            return new Window(0, Math.min(text.length(), maxLength), Collections.emptyList(), 0);
+        }
+
+        int bestFrom = 0;
+        int bestTo = 0;
+        int bestScore = -1;
+        int to = 0;
+        int[] termCounts = new int[terms.size()];
+        int distinct = 0;
+
+        for (int from = 0; from < matches.size(); from++) {
+            int windowStart = matches.get(from)[0];
+            while (to < matches.size() && matches.get(to)[1] - windowStart <= maxLength) {
+                if (termCounts[matches.get(to)[2]]++ == 0) distinct++;
+                to++;
+            }
+
+            int score = distinct * MAX_MATCHES + (to - from);
+            if (score > bestScore) {
+                bestScore = score;
+                bestFrom = from;
+                bestTo = to;
+            }
+
+            if (to > from && --termCounts[matches.get(from)[2]] == 0) distinct--;
+            if (to == from) to++;
+        }
+
+        // Center the matched span in the window, then clamp to the text
+        int spanStart = matches.get(bestFrom)[0];
+        int spanEnd = bestTo > bestFrom ? matches.get(bestTo - 1)[1] : matches.get(bestFrom)[1];
+        int start = Math.max(0, spanStart - Math.max(0, maxLength - (spanEnd - spanStart)) / 2);
+        int end = Math.min(text.length(), start + maxLength);
+        start = Math.max(0, Math.min(start, end - maxLength));
+
+        List<int[]> highlights = new ArrayList<>();
+        for (int[] match : matches) {
+            if (match[0] >= start && match[1] <= end) {
+                highlights.add(match);
+            }
+        }
+        return new Window(start, end, highlights, Math.max(bestScore, 1));
+    }
+
+    // Helper: Start/end offsets of the tokens starting with a query term
+    private static List<int[]> findMatches(String text, List<String> terms) {
+        List<int[]> matches = new ArrayList<>();
+        if (terms.isEmpty()) {
+            return matches;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length() && matches.size() < MAX_MATCHES; i++) {
+            boolean inToken = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (inToken) {
+                if (start < 0) start = i;
+                continue;
+            }
+            if (start >= 0) {
+                for (int t = 0; t < terms.size(); t++) {
+                    String term = terms.get(t);
+                    if (i - start >= term.length() && text.regionMatches(true, start, term, 0, term.length())) {
+                        matches.add(new int[]{start, i, t});
+                        break;
+                    }
+                }
+                start = -1;
+            }
+        }
+        return matches;
+    }
+
+    // Helper: Copy out the window, add ellipses and shift the highlights into snippet coordinates
+    private static Snippet render(String text, Window window) {
+        StringBuilder snippet = new StringBuilder(window.end - window.start + 2 * ELLIPSIS.length());
+        int shift = -window.start;
+        if (window.start > 0) {
+            snippet.append(ELLIPSIS);
+            shift += ELLIPSIS.length();
+        }
+        snippet.append(text, window.start, window.end);
+        if (window.end < text.length()) {
+            snippet.append(ELLIPSIS);
+        }
+
+        List<Snippet.Span> highlights = new ArrayList<>(window.matches.size());
+        for (int[] match : window.matches) {
+            highlights.add(new Snippet.Span(match[0] + shift, match[1] + shift));
+        }
+        return new Snippet(snippet.toString(), highlights);
+    }
+
+    private static class Window {
+        private final int start;
+        private final int end;
+        private final List<int[]> matches;
+        private final int score;
+
+        private Window(int start, int end, List<int[]> matches, int score) {
+            this.start = start;
+            this.end = end;
+            this.matches = matches;
+            this.score = score;
+        }
+    }
+}
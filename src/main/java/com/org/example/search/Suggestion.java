@@ -0,0 +1,17 @@
+package com.org.example.search;
+
+import com.org.example.enums.SuggestionType;
+import lombok.Value;
+
+/**
+ * One autocomplete completion. Topic names and note titles point at their document;
+ * categories and tags are shared by many topics and carry the best topic's id.
+ */
+@Value
+public class Suggestion {
+    SuggestionType type;
+    String text;
+    Long id;
+    Integer confidenceLevel;
+    long lastUpdated;   // epoch millis of the most recent contributing write
+}
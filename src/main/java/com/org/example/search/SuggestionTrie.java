@@ -0,0 +1,216 @@
+package com.org.example.search;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compressed (radix) trie from string keys to sets of values.
+ *
+ * Each edge carries a whole run of characters, so a chain of single-child nodes is
+ * stored as one node. Prefix lookups walk at most one node per edge; each node caches the
+ * best cacheSize values of its subtree per order, so a one-letter prefix reads a cached list
+ * instead of visiting the whole subtree. Writes clear the caches on their path.
+ *
+ * Lookups may run concurrently with each other; writes (including {@link #invalidate})
+ * need exclusive access, so callers use a read/write lock.
+ */
+public class SuggestionTrie<V> {
+
+    private final int cacheSize;
+
+    private final Node<V> root = new Node<>("");
+
+    public SuggestionTrie(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public void put(String key, V value) {
+        Node<V> node = root;
+        int i = 0;
+
+        while (i < key.length()) {
+            node.best.clear();
+            Node<V> child = node.children.get(key.charAt(i));
+            if (child == null) {
+                Node<V> leaf = new Node<>(key.substring(i));
+                node.children.put(key.charAt(i), leaf);
+                node = leaf;
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                // Split the edge: node -> middle (shared part) -> child (rest of its label)
+                Node<V> middle = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+
+            node = child;
+            i += common;
+        }
+
+        node.best.clear();
+        node.values.add(value);
+    }
+
+    public void remove(String key, V value) {
+        remove(root, key, 0, value);
+    }
+
+    /**
+     * Clear the cached rankings on the key's path; call when the order of a value stored
+     * under the key may have changed
+     */
+    public void invalidate(String key) {
+        Node<V> node = root;
+        int i = 0;
+
+        while (true) {
+            node.best.clear();
+            if (i == key.length()) {
+                return;
+            }
+            Node<V> child = node.children.get(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return;
+            }
+            node = child;
+            i += child.label.length();
+        }
+    }
+
+    /**
+     * The limit best distinct values whose key starts with the prefix, best first.
+     * Orders are cached by identity, so pass the same comparator instance for the same order.
+     */
+    public List<V> top(String prefix, int limit, Comparator<? super V> order) {
+        Node<V> node = find(prefix);
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+
+        if (limit > cacheSize) {
+            // Larger than any cached list: walk the subtree
+            Set<V> distinct = new HashSet<>();
+            Deque<Node<V>> stack = new ArrayDeque<>();
+            stack.push(node);
+            while (!stack.isEmpty()) {
+                Node<V> current = stack.pop();
+                distinct.addAll(current.values);
+                current.children.values().forEach(stack::push);
+            }
+            TopKSelector<V> topK = new TopKSelector<>(limit, order);
+            distinct.forEach(topK::offer);
+            return topK.toSortedList();
+        }
+
+        List<V> best = best(node, order);
+        return best.size() <= limit ? best : best.subList(0, limit);
+    }
+
+    public boolean isEmpty() {
+        return root.children.isEmpty() && root.values.isEmpty();
+    }
+
+    // Helper: The node whose subtree holds exactly the keys starting with the prefix, or null
+    private Node<V> find(String prefix) {
+        Node<V> node = root;
+        int i = 0;
+
+        while (i < prefix.length()) {
+            Node<V> child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return null;
+            }
+
+            int remaining = prefix.length() - i;
+            if (remaining <= child.label.length()) {
+                if (!child.label.startsWith(prefix.substring(i))) {
+                    return null;
+                }
+            } else if (!prefix.startsWith(child.label, i)) {
+                return null;
+            }
+
+            node = child;
+            i += child.label.length();
+        }
+        return node;
+    }
+
+    // Helper: The subtree's best cacheSize values, merged from the children's cached lists.
+    // A value in the subtree's top k is in the top k of the child holding it, so this is exact.
+    private List<V> best(Node<V> node, Comparator<? super V> order) {
+        List<V> cached = node.best.get(order);
+        if (cached != null) {
+            return cached;
+        }
+
+        Set<V> distinct = new HashSet<>(node.values);
+        for (Node<V> child : node.children.values()) {
+            distinct.addAll(best(child, order));
+        }
+        TopKSelector<V> topK = new TopKSelector<>(cacheSize, order);
+        distinct.forEach(topK::offer);
+
+        List<V> result = List.copyOf(topK.toSortedList());
+        node.best.put(order, result);
+        return result;
+    }
+
+    // Helper: Remove the value below node; returns true when node became empty and can be dropped
+    private boolean remove(Node<V> node, String key, int i, V value) {
+        node.best.clear();
+        if (i == key.length()) {
+            node.values.remove(value);
+        } else {
+            Node<V> child = node.children.get(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return false;
+            }
+
+            if (remove(child, key, i + child.label.length(), value)) {
+                node.children.remove(key.charAt(i));
+            } else if (child.values.isEmpty() && child.children.size() == 1) {
+                // Merge a valueless pass-through node into its only child
+                Node<V> grandchild = child.children.values().iterator().next();
+                grandchild.label = child.label + grandchild.label;
+                node.children.put(key.charAt(i), grandchild);
+            }
+        }
+
+        return node != root && node.values.isEmpty() && node.children.isEmpty();
+    }
+
+    // Helper: Length of the common prefix of label and key[offset..]
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int n = 0;
+        while (n < max && label.charAt(n) == key.charAt(offset + n)) {
+            n++;
+        }
+        return n;
+    }
+
+    private static class Node<V> {
+        private String label;
+        private final Map<Character, Node<V>> children = new TreeMap<>();
+        private final Set<V> values = new HashSet<>();
+        // order -> best values of this subtree, filled by concurrent lookups
+        private final Map<Comparator<? super V>, List<V>> best = new ConcurrentHashMap<>();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
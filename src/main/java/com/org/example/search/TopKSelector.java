@@ -0,0 +1,56 @@
+package com.org.example.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the k best elements seen so far using a bounded heap, so selecting a page of
+ * results costs O(n log k) time and O(k) memory instead of sorting all n candidates.
+ *
+ * "Best" means first in the given comparator's order.
+ */
+public class TopKSelector<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+
+    // Max-heap on the final order: the root is the worst element currently kept
+    private final PriorityQueue<T> heap;
+
+    // Everything ever offered, kept or not (the total number of results)
+    private long offeredCount;
+
+    public TopKSelector(int k, Comparator<? super T> order) {
+        this.k = k;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), order.reversed());
+    }
+
+    public void offer(T element) {
+        offeredCount++;
+        if (k <= 0) {
+            return;
+        }
+        if (heap.size() < k) {
+            heap.add(element);
+        } else if (order.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    public long getOfferedCount() {
+        return offeredCount;
+    }
+
+    /**
+     * The kept elements, best first
+     */
+    public List<T> toSortedList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
@@ -0,0 +1,239 @@
+package com.org.example.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index for a single user's topics, notes and projects.
+ *
+ * Maps each token to the documents containing it (with term frequency), and keeps
+ * the reverse mapping so a document can be re-indexed or removed incrementally.
+ * Document lengths are cached alongside the postings so BM25 scores can be computed
+ * in a single pass over the postings of the query terms.
+ */
+public class UserSearchIndex {
+
+    // token -> (document -> term frequency), sorted so prefix lookups are a range scan
+    private final NavigableMap<String, Map<SearchDocKey, Integer>> postings = new TreeMap<>();
+
+    // Terms that only match a query token as a prefix count for less than exact terms
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
+
+    // ... and typo corrections count for less still
+    private static final double FUZZY_MATCH_WEIGHT = 0.3;
+
+    // Upper bound on vocabulary terms verified per fuzzy query token
+    private static final int FUZZY_CANDIDATE_CAP = 50;
+
+    // document -> its term frequencies (needed to remove stale postings on update/delete)
+    private final Map<SearchDocKey, Map<String, Integer>> documents = new HashMap<>();
+
+    // document -> number of tokens, plus the running total for the average length
+    private final Map<SearchDocKey, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    // Terms typo-tolerant search may correct a query token to
+    private final FuzzyVocabulary vocabulary = new FuzzyVocabulary();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+
+    /**
+     * Add or replace a document in the index
+     */
+    public void put(SearchDocKey key, List<String> tokens) {
+        put(key, tokens, Collections.emptyList());
+    }
+
+    /**
+     * Add or replace a document, also registering the terms fuzzy search may correct to
+     */
+    public void put(SearchDocKey key, List<String> tokens, Collection<String> fuzzyTerms) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : tokens) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            vocabulary.put(key, fuzzyTerms);
+            documents.put(key, termFrequencies);
+            documentLengths.put(key, tokens.size());
+            totalLength += tokens.size();
+            termFrequencies.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, tf));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document from the index
+     */
+    public void remove(SearchDocKey key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find documents containing every query token (each token also matches as a prefix,
+     * so "jav" finds "java" and "javascript") and score them with BM25.
+     *
+     * Code symbols ("->", "<>", ...) only add to the score: code is tokenized per language
+     * (see {@link CodeTokenizer}), so a symbol in the query may not be indexed for a matching
+     * note, e.g. "<>" of {@code new HashMap<>()} in Java. A query made only of symbols
+     * requires them.
+     *
+     * @return matching documents with their raw (unbounded) BM25 score
+     */
+    public Map<SearchDocKey, Double> search(List<String> queryTokens) {
+        return search(queryTokens, false);
+    }
+
+    /**
+     * Like {@link #search(List)}, but when fuzzy is set each query token also matches the
+     * vocabulary terms within a small edit distance of it (1 edit from 4 characters, 2 from 8),
+     * at a lower weight than exact and prefix matches.
+     */
+    public Map<SearchDocKey, Double> search(List<String> queryTokens, boolean fuzzy) {
+        lastAccessMillis = System.currentTimeMillis();
+
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> required = new ArrayList<>();
+        List<String> optional = new ArrayList<>();
+        for (String token : queryTokens) {
+            (CodeTokenizer.SYMBOLS.contains(token) ? optional : required).add(token);
+        }
+        if (required.isEmpty()) {
+            required = optional;
+            optional = Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            double averageLength = documentCount > 0 ? (double) totalLength / documentCount : 0;
+
+            Map<SearchDocKey, Double> scores = null;
+            for (String token : required) {
+                Map<SearchDocKey, Double> tokenScores = new HashMap<>();
+
+                for (Map.Entry<String, Map<SearchDocKey, Integer>> term : prefixRange(token).entrySet()) {
+                    double weight = term.getKey().equals(token) ? 1.0 : PREFIX_MATCH_WEIGHT;
+                    scoreTerm(term.getValue(), weight, documentCount, averageLength, scores, tokenScores);
+                }
+
+                if (fuzzy) {
+                    for (String correction : vocabulary.corrections(token, maxEdits(token), FUZZY_CANDIDATE_CAP)) {
+                        Map<SearchDocKey, Integer> docs = postings.get(correction);
+                        if (docs != null && !correction.startsWith(token)) {
+                            scoreTerm(docs, FUZZY_MATCH_WEIGHT, documentCount, averageLength, scores, tokenScores);
+                        }
+                    }
+                }
+
+                if (scores != null) {
+                    for (Map.Entry<SearchDocKey, Double> entry : tokenScores.entrySet()) {
+                        entry.setValue(entry.getValue() + scores.get(entry.getKey()));
+                    }
+                }
+                scores = tokenScores;
+
+                if (scores.isEmpty()) {
+                    return scores;
+                }
+            }
+
+            for (String symbol : optional) {
+                Map<SearchDocKey, Integer> docs = postings.get(symbol);
+                if (docs != null) {
+                    Map<SearchDocKey, Double> symbolScores = new HashMap<>();
+                    scoreTerm(docs, 1.0, documentCount, averageLength, scores, symbolScores);
+                    for (Map.Entry<SearchDocKey, Double> entry : symbolScores.entrySet()) {
+                        scores.merge(entry.getKey(), entry.getValue(), Double::sum);
+                    }
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Helper: Add one term's BM25 contribution for the documents still in the running
+    private void scoreTerm(Map<SearchDocKey, Integer> docs, double weight, int documentCount, double averageLength,
+                           Map<SearchDocKey, Double> scores, Map<SearchDocKey, Double> tokenScores) {
+        double idf = Bm25Scorer.idf(documentCount, docs.size());
+
+        for (Map.Entry<SearchDocKey, Integer> posting : docs.entrySet()) {
+            SearchDocKey key = posting.getKey();
+            if (scores != null && !scores.containsKey(key)) {
+                continue; // Already failed an earlier query token
+            }
+            double score = weight * Bm25Scorer.termScore(
+                    idf, posting.getValue(), documentLengths.get(key), averageLength);
+            tokenScores.merge(key, score, Double::sum);
+        }
+    }
+
+    // Helper: Edits tolerated for a query token (short tokens have too many neighbours to correct)
+    private static int maxEdits(String token) {
+        if (token.length() >= 8) return 2;
+        if (token.length() >= 4) return 1;
+        return 0;
+    }
+
+    // Helper: All postings whose term starts with the given prefix
+    private NavigableMap<String, Map<SearchDocKey, Integer>> prefixRange(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    // Helper: Remove a document's postings (caller holds the write lock)
+    private void removeInternal(SearchDocKey key) {
+        vocabulary.remove(key);
+        Map<String, Integer> previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= documentLengths.remove(key);
+        for (String term : previous.keySet()) {
+            Map<SearchDocKey, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(key);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
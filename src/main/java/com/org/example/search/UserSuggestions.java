@@ -0,0 +1,223 @@
+package com.org.example.search;
+
+import com.org.example.enums.SuggestionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Autocomplete index for a single user's topic names, categories, tags and note titles.
+ *
+ * Every completion is stored in a {@link SuggestionTrie} under each of its word starts,
+ * so "boo" completes "Spring Boot". Completions shared by several documents (a tag used
+ * on many topics) are reference counted per document, so documents can be updated or
+ * removed incrementally. Each trie node caches its best completions per sort order, so
+ * a changed ranking (a contributor added, updated or removed) clears the entry's paths.
+ */
+public class UserSuggestions {
+
+    // Long note titles only get their first few words as completion starts
+    private static final int MAX_WORD_STARTS = 8;
+
+    // Completions cached per trie node and order; larger requests walk the subtree
+    private static final int CACHED_COMPLETIONS = 50;
+
+    // Suggestion order -> the same order on entries (one instance each, the trie caches by identity)
+    private static final Map<Comparator<Suggestion>, Comparator<Entry>> ENTRY_ORDERS = new ConcurrentHashMap<>();
+
+    private final SuggestionTrie<Entry> trie = new SuggestionTrie<>(CACHED_COMPLETIONS);
+
+    // type + normalized text -> completion
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    // document -> completions it contributes to (needed to update/remove it)
+    private final Map<SearchDocKey, List<Entry>> contributions = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+
+    /**
+     * Add or replace the completions contributed by a document
+     */
+    public void put(SearchDocKey document, List<Suggestion> suggestions) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document);
+
+            List<Entry> contributed = new ArrayList<>();
+            for (Suggestion suggestion : suggestions) {
+                String key = normalize(suggestion.getText());
+                if (key.isEmpty()) {
+                    continue;
+                }
+
+                Entry entry = entries.computeIfAbsent(suggestion.getType() + ":" + key, k -> {
+                    Entry created = new Entry(suggestion.getType(), suggestion.getText().trim(), key);
+                    for (String start : wordStarts(key)) {
+                        trie.put(start, created);
+                    }
+                    return created;
+                });
+                entry.contributors.put(document, suggestion);
+                touch(entry);
+                contributed.add(entry);
+            }
+            contributions.put(document, contributed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every completion contributed by a document
+     */
+    public void remove(SearchDocKey document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The best completions starting with the prefix (at a word start), best first
+     */
+    public List<Suggestion> suggest(String prefix, int limit, Comparator<Suggestion> order) {
+        lastAccessMillis = System.currentTimeMillis();
+
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Comparator<Entry> entryOrder = ENTRY_ORDERS.computeIfAbsent(order,
+                o -> Comparator.comparing(Entry::toSuggestion, o));
+        lock.readLock().lock();
+        try {
+            return trie.top(key, limit, entryOrder).stream()
+                    .map(Entry::toSuggestion)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Helper: Drop a document's contributions; completions nobody contributes to any more leave the trie
+    private void removeInternal(SearchDocKey document) {
+        List<Entry> contributed = contributions.remove(document);
+        if (contributed == null) {
+            return;
+        }
+
+        for (Entry entry : contributed) {
+            entry.contributors.remove(document);
+            if (entry.contributors.isEmpty()) {
+                entries.remove(entry.type + ":" + entry.key);
+                for (String start : wordStarts(entry.key)) {
+                    trie.remove(start, entry);
+                }
+            } else {
+                touch(entry);
+            }
+        }
+    }
+
+    // Helper: The entry's contributors changed, so its ranking may have too
+    private void touch(Entry entry) {
+        entry.snapshot = null;
+        for (String start : wordStarts(entry.key)) {
+            trie.invalidate(start);
+        }
+    }
+
+    // Helper: Lowercase with single spaces between words
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return String.join(" ", text.trim().toLowerCase().split("\\s+")).trim();
+    }
+
+    // Helper: The key from each of its first words onwards ("spring boot" -> "spring boot", "boot")
+    private static List<String> wordStarts(String key) {
+        List<String> starts = new ArrayList<>();
+        starts.add(key);
+        int from = 0;
+        while (starts.size() < MAX_WORD_STARTS) {
+            int space = key.indexOf(' ', from);
+            if (space < 0) {
+                break;
+            }
+            starts.add(key.substring(space + 1));
+            from = space + 1;
+        }
+        return starts;
+    }
+
+    /**
+     * A completion and the documents contributing it
+     */
+    private static class Entry {
+        private final SuggestionType type;
+        private final String text;
+        private final String key;
+        private final Map<SearchDocKey, Suggestion> contributors = new HashMap<>();
+        // toSuggestion() result, cleared when contributors change
+        private volatile Suggestion snapshot;
+
+        private Entry(SuggestionType type, String text, String key) {
+            this.type = type;
+            this.text = text;
+            this.key = key;
+        }
+
+        // Best confidence and latest write over all contributors
+        private Suggestion toSuggestion() {
+            Suggestion cached = snapshot;
+            if (cached == null) {
+                cached = aggregate();
+                snapshot = cached;
+            }
+            return cached;
+        }
+
+        private Suggestion aggregate() {
+            Long id = null;
+            Integer confidence = null;
+            long lastUpdated = 0;
+            for (Map.Entry<SearchDocKey, Suggestion> contributor : contributors.entrySet()) {
+                Suggestion suggestion = contributor.getValue();
+                Integer level = suggestion.getConfidenceLevel();
+                if (id == null || (level != null && (confidence == null || level > confidence))) {
+                    id = contributor.getKey().getId();
+                    confidence = level;
+                }
+                lastUpdated = Math.max(lastUpdated, suggestion.getLastUpdated());
+            }
+            return new Suggestion(type, text, id, confidence, lastUpdated);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.org.example.service;
+
+import com.org.example.dashboard.DayBitmap;
+import com.org.example.dto.ActivityHeatmapResponse;
+import com.org.example.dto.MonthlyActivity;
+import com.org.example.entities.UserActivity;
+import com.org.example.event.ReviewRecordedEvent;
+import com.org.example.exception.BadRequestException;
+import com.org.example.repository.ReviewSessionRepository;
+import com.org.example.repository.RowInserter;
+import com.org.example.repository.UserActivityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Which days each user reviewed, kept as a DayBitmap in user_activity.
+ * A recorded review sets one bit in the review's transaction; the history is only replayed
+ * for the backfill and when the user's time zone changes.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityService {
+
+    public static final int DEFAULT_HEATMAP_WEEKS = 53;
+    public static final int MAX_HEATMAP_WEEKS = 106;
+
+    private static final DateTimeFormatter MONTH_KEY = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final UserActivityRepository userActivityRepository;
+    private final ReviewSessionRepository reviewRepository;
+    private final UserTimeZones userTimeZones;
+    private final RowInserter rowInserter;
+
+    /**
+     * Mark the review's day in the reviewer's bitmap
+     */
+    @EventListener
+    @Transactional
+    public void onReviewRecorded(ReviewRecordedEvent event) {
+        UserActivity activity = lock(event.getUserId());
+        DayBitmap days = DayBitmap.of(activity.getFirstDay(), activity.getReviewDays());
+
+        days.add(userTimeZones.dayOf(event.getReviewedAt(), userTimeZones.zoneOf(event.getUserId())));
+        store(activity, days);
+    }
+
+    // Replay the user's review history into a fresh bitmap, counting days in the given zone
+    @Transactional
+    public DayBitmap rebuild(Long userId, ZoneId zone) {
+        UserActivity activity = lock(userId);
+        DayBitmap days = new DayBitmap();
+        for (LocalDateTime reviewedAt : reviewRepository.findReviewTimesByUserId(userId)) {
+            days.add(userTimeZones.dayOf(reviewedAt, zone));
+        }
+
+        store(activity, days);
+        return days;
+    }
+
+    @Transactional
+    public DayBitmap rebuild(Long userId) {
+        return rebuild(userId, userTimeZones.zoneOf(userId));
+    }
+
+    public DayBitmap getReviewDays(Long userId) {
+        return userActivityRepository.findById(userId)
+                .map(activity -> DayBitmap.of(activity.getFirstDay(), activity.getReviewDays()))
+                .orElseGet(DayBitmap::new);
+    }
+
+    /**
+     * GitHub-style grid of review days: the last {@code weeks} weeks (Monday to Sunday) up to today
+     */
+    public ActivityHeatmapResponse getHeatmap(Long userId, Integer weeks) {
+        int weekCount = weeks != null ? weeks : DEFAULT_HEATMAP_WEEKS;
+        if (weekCount < 1 || weekCount > MAX_HEATMAP_WEEKS) {
+            throw new BadRequestException("weeks must be between 1 and " + MAX_HEATMAP_WEEKS);
+        }
+
+        ZoneId zone = userTimeZones.zoneOf(userId);
+        LocalDate today = LocalDate.now(zone);
+        LocalDate from = today.with(DayOfWeek.MONDAY).minusWeeks(weekCount - 1);
+        DayBitmap days = getReviewDays(userId);
+
+        List<List<Integer>> grid = new ArrayList<>(weekCount);
+        LocalDate day = from;
+        for (int week = 0; week < weekCount; week++) {
+            List<Integer> column = new ArrayList<>(7);
+            for (int weekday = 0; weekday < 7; weekday++) {
+                column.add(day.isAfter(today) ? null : days.contains(day) ? 1 : 0);
+                day = day.plusDays(1);
+            }
+            grid.add(column);
+        }
+
+        return ActivityHeatmapResponse.builder()
+                .from(from)
+                .to(today)
+                .timezone(zone.getId())
+                .weeks(grid)
+                .activeDays(days.count(from, today))
+                .currentRun(currentRun(days, today))
+                .longestRun(days.longestRun())
+                .months(getMonthlyActiveDays(days, from, today))
+                .build();
+    }
+
+    // Active days per calendar month overlapping [from, to], oldest first
+    public List<MonthlyActivity> getMonthlyActiveDays(DayBitmap days, LocalDate from, LocalDate to) {
+        List<MonthlyActivity> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            LocalDate start = month.atDay(1).isBefore(from) ? from : month.atDay(1);
+            LocalDate end = month.atEndOfMonth().isAfter(to) ? to : month.atEndOfMonth();
+            months.add(MonthlyActivity.builder()
+                    .month(month.format(MONTH_KEY))
+                    .activeDays(days.count(start, end))
+                    .build());
+        }
+        return months;
+    }
+
+    // Helper: Run up to today, or up to yesterday while today has no review yet
+    private int currentRun(DayBitmap days, LocalDate today) {
+        return days.contains(today) ? days.runEndingAt(today) : days.runEndingAt(today.minusDays(1));
+    }
+
+    // Helper: The user's row, locked for the rest of the transaction (created when missing)
+    private UserActivity lock(Long userId) {
+        if (!userActivityRepository.existsById(userId)) {
+            try {
+                rowInserter.insert(new UserActivity(userId));
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent first review created it; the locking read below sees it
+            }
+        }
+        return userActivityRepository.findForUpdateByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("user_activity row missing for user " + userId));
+    }
+
+    private void store(UserActivity activity, DayBitmap days) {
+        activity.setFirstDay(days.getBaseDay());
+        activity.setReviewDays(days.toByteArray());
+        userActivityRepository.save(activity);
+    }
+}
@@ -0,0 +1,60 @@
+package com.org.example.service;
+
+import com.org.example.repository.ConfidenceCount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The confidence levels counted as weak, moderate and strong everywhere on the dashboard:
+ * weak below app.dashboard.confidence.weak-below, strong from app.dashboard.confidence.strong-from,
+ * moderate in between.
+ */
+@Component
+public class ConfidenceBands {
+
+    public static final int MIN_LEVEL = 1;
+    public static final int MAX_LEVEL = 5;
+
+    public enum Band { WEAK, MODERATE, STRONG }
+
+    private final int weakBelow;
+    private final int strongFrom;
+
+    public ConfidenceBands(@Value("${app.dashboard.confidence.weak-below:3}") int weakBelow,
+                           @Value("${app.dashboard.confidence.strong-from:4}") int strongFrom) {
+        if (weakBelow > strongFrom) {
+            throw new IllegalArgumentException("app.dashboard.confidence.weak-below (" + weakBelow +
+                    ") must not be above app.dashboard.confidence.strong-from (" + strongFrom + ")");
+        }
+        this.weakBelow = weakBelow;
+        this.strongFrom = strongFrom;
+    }
+
+    public Band bandOf(int level) {
+        if (level < weakBelow) {
+            return Band.WEAK;
+        }
+        return level >= strongFrom ? Band.STRONG : Band.MODERATE;
+    }
+
+    // Topics per band (indexed by Band ordinal) from a per-level histogram; unrated topics are left out
+    public long[] count(List<ConfidenceCount> histogram) {
+        long[] counts = new long[Band.values().length];
+        for (ConfidenceCount row : histogram) {
+            if (row.getLevel() != null) {
+                counts[bandOf(row.getLevel()).ordinal()] += row.getCount();
+            }
+        }
+        return counts;
+    }
+
+    public int getWeakBelow() {
+        return weakBelow;
+    }
+
+    public int getStrongFrom() {
+        return strongFrom;
+    }
+}
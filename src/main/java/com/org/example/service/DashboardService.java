@@ -1,318 +1,283 @@
 package com.org.example.service;
 
 
+import com.org.example.dashboard.DashboardAggregator;
+import com.org.example.dto.CategoryDetailResponse;
 import com.org.example.dto.CategoryStats;
+import com.org.example.dto.ConfidenceHistogramResponse;
+import com.org.example.dto.ConfidenceLevelCount;
 import com.org.example.dto.DashboardStatsResponse;
 import com.org.example.dto.MonthlyProgress;
-import com.org.example.dto.StreakInfo;
-import com.org.example.entities.ReviewSession;
-import com.org.example.entities.Topic;
+import com.org.example.entities.UserCategoryStats;
+import com.org.example.entities.UserStats;
+import com.org.example.exception.BadRequestException;
+import com.org.example.exception.ResourceNotFoundException;
 import com.org.example.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
+    public static final int MAX_MONTHLY_WINDOW = 60;
+
+    private static final DateTimeFormatter MONTH_KEY = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final DateTimeFormatter MONTH_NAME = DateTimeFormatter.ofPattern("MMMM yyyy");
+
     private final TopicRepository topicRepository;
     private final ReviewSessionRepository reviewRepository;
-    private final ProjectRepository projectRepository;
     private final NoteRepository noteRepository;
+    private final ProjectRepository projectRepository;
     private final LearningPathRepository learningPathRepository;
     private final SkillFamilyRepository skillFamilyRepository;
     private final SkillEvolutionRepository skillEvolutionRepository;
-
+    private final UserStatsService userStatsService;
+    private final StreakService streakService;
+    private final TopicService topicService;
+    private final ConfidenceBands confidenceBands;
+
+    // Months in the monthly progress of the dashboard
+    @Value("${app.dashboard.monthly-window-months:12}")
+    private int monthlyWindowMonths;
+
+    // materialized = user_stats rows and indexed COUNT queries, aggregate = one topic and one review fetch
+    @Value("${app.dashboard.engine:materialized}")
+    private String dashboardEngine;
+
+    /**
+     * Totals and categories come from the materialized user_stats and user_category_stats rows,
+     * the monthly progress from two GROUP BY month queries. Figures relative to today are
+     * indexed COUNT queries, so no topic or review rows are loaded. With app.dashboard.engine=aggregate
+     * everything is computed from the user's rows instead (see getAggregatedDashboardStats).
+     */
     public DashboardStatsResponse getDashboardStats(Long userId) {
+        if ("aggregate".equalsIgnoreCase(dashboardEngine)) {
+            return getAggregatedDashboardStats(userId);
+        }
+
+        UserStats stats = userStatsService.getStats(userId);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
         return DashboardStatsResponse.builder()
-                .totalTopics(getTotalTopics(userId))
-                .totalProjects(getTotalProjects(userId))
-                .totalReviews(getTotalReviews(userId))
-                .totalNotes(getTotalNotes(userId))
-                .reviewsThisWeek(getReviewsThisWeek(userId))
-                .reviewsThisMonth(getReviewsThisMonth(userId))
-                .averageReviewRating(getAverageReviewRating(userId))
-                .totalTimeSpentMinutes(getTotalTimeSpent(userId))
-                .averageConfidence(getAverageConfidence(userId))
-                .weakTopics(getWeakTopicsCount(userId))
-                .moderateTopics(getModerateTopicsCount(userId))
-                .strongTopics(getStrongTopicsCount(userId))
-                .currentStreak(calculateCurrentStreak(userId))
-                .topicsDueToday(getTopicsDueToday(userId))
-                .topicsOverdue(getTopicsOverdue(userId))
-                .atRiskTopics(getAtRiskTopicsCount(userId))
-                .topicsByCategory(getTopicsByCategory(userId))
-                .monthlyProgress(getMonthlyProgress(userId))
+                .totalTopics(stats.getTotalTopics())
+                .totalProjects(stats.getTotalProjects())
+                .totalReviews(stats.getTotalReviews())
+                .totalNotes(stats.getTotalNotes())
+                .reviewsThisWeek(reviewRepository.countRecentReviews(userId, now.minusDays(7)))
+                .reviewsThisMonth(reviewRepository.countRecentReviews(userId, now.minusDays(30)))
+                .averageReviewRating(average(stats.getRatingSum(), stats.getTotalReviews()))
+                .totalTimeSpentMinutes(stats.getTimeSpentMinutes())
+                .averageConfidence(average(stats.getConfidenceSum(), stats.getConfidenceCount()))
+                .weakTopics(stats.getWeakTopics())
+                .moderateTopics(stats.getModerateTopics())
+                .strongTopics(stats.getStrongTopics())
+                .currentStreak(streakService.getCurrentStreak(userId))
+                .topicsDueToday(reviewRepository.countDueReviews(userId, today))
+                .topicsOverdue(reviewRepository.countDueReviews(userId, today.minusDays(1)))
+                .atRiskTopics(topicRepository.countByUserIdAndLastReviewedBefore(
+                        userId, today.minusDays(TopicSpecifications.AT_RISK_DAYS)))
+                .topicsByCategory(getCategoryStats(userId))
+                .monthlyProgress(getMonthlyProgress(userId, null))
                 .totalSkillFamilies((int) skillFamilyRepository.findAll().size())
                 .totalEvolutionLevels((int) skillEvolutionRepository.findAll().size())
                 .learningPathLength(getLearningPathLength(userId))
-                .journeyStartDate(getJourneyStartDate(userId))
-                .journeyDurationDays(getJourneyDuration(userId))
-                .build();
-    }
-
-    public StreakInfo getStreakInfo(Long userId) {
-        int currentStreak = calculateCurrentStreak(userId);
-        int longestStreak = calculateLongestStreak(userId);
-        LocalDate lastReview = getLastReviewDate(userId);
-        boolean reviewedToday = isReviewedToday(userId);
-
-        return StreakInfo.builder()
-                .currentStreak(currentStreak)
-                .longestStreak(longestStreak)
-                .lastReviewDate(lastReview)
-                .reviewedToday(reviewedToday)
+                .journeyStartDate(stats.getFirstLearnedDate() != null ? stats.getFirstLearnedDate().toString() : null)
+                .journeyDurationDays(getJourneyDuration(stats))
                 .build();
     }
 
-    // ==================== BASIC COUNTS ====================
-
-    private Long getTotalTopics(Long userId) {
-        return topicRepository.countByUserId(userId);
-    }
-
-    private Long getTotalProjects(Long userId) {
-        return projectRepository.countByUserId(userId);
-    }
+    /**
+     * The same figures without the materialized rows: one fetch of the user's topic columns and one
+     * of their review columns, aggregated in a single pass. The streak still comes from the
+     * timezone-aware streak state.
+     */
+    private DashboardStatsResponse getAggregatedDashboardStats(Long userId) {
+        DashboardAggregator aggregate = new DashboardAggregator(LocalDateTime.now(),
+                confidenceBands.getWeakBelow(), confidenceBands.getStrongFrom(), monthlyWindowMonths);
+
+        for (TopicStatsRow topic : topicRepository.findStatsRowsByUserId(userId)) {
+            aggregate.addTopic(topic.getConfidenceLevel(), topic.getCategory(),
+                    topic.getLearnedDate(), topic.getLastReviewed());
+        }
+        for (ReviewStatsRow review : reviewRepository.findStatsRowsByUserId(userId)) {
+            aggregate.addReview(review.getReviewedAt(), review.getNextReviewDate(),
+                    review.getRating(), review.getTimeSpentMinutes());
+        }
 
-    private Long getTotalReviews(Long userId) {
-        return reviewRepository.countByUserId(userId);
-    }
+        YearMonth current = YearMonth.now();
+        LocalDate firstLearned = aggregate.getFirstLearnedDate();
+        LocalDate lastLearned = aggregate.getLastLearnedDate();
 
-    private Long getTotalNotes(Long userId) {
-        List<Topic> topics = topicRepository.findByUserId(userId);
-        return topics.stream()
-                .mapToLong(topic -> noteRepository.countByTopicId(topic.getId()))
-                .sum();
+        return DashboardStatsResponse.builder()
+                .totalTopics(aggregate.getTotalTopics())
+                .totalProjects(projectRepository.countByUserId(userId))
+                .totalReviews(aggregate.getTotalReviews())
+                .totalNotes(noteRepository.countByUserId(userId))
+                .reviewsThisWeek(aggregate.getReviewsThisWeek())
+                .reviewsThisMonth(aggregate.getReviewsThisMonth())
+                .averageReviewRating(average(aggregate.getRatingSum(), aggregate.getTotalReviews()))
+                .totalTimeSpentMinutes(aggregate.getTotalTimeSpentMinutes())
+                .averageConfidence(average(aggregate.getConfidenceSum(), aggregate.getConfidenceCount()))
+                .weakTopics(aggregate.getWeakTopics())
+                .moderateTopics(aggregate.getModerateTopics())
+                .strongTopics(aggregate.getStrongTopics())
+                .currentStreak(streakService.getCurrentStreak(userId))
+                .topicsDueToday(aggregate.getDueToday())
+                .topicsOverdue(aggregate.getOverdue())
+                .atRiskTopics(aggregate.getAtRiskTopics())
+                .topicsByCategory(aggregate.getCategoryStats())
+                .monthlyProgress(progress(current.minusMonths(monthlyWindowMonths - 1), current,
+                        aggregate::getTopicsLearned, aggregate::getReviewsCompleted))
+                .totalSkillFamilies((int) skillFamilyRepository.findAll().size())
+                .totalEvolutionLevels((int) skillEvolutionRepository.findAll().size())
+                .learningPathLength(getLearningPathLength(userId))
+                .journeyStartDate(firstLearned != null ? firstLearned.toString() : null)
+                .journeyDurationDays(firstLearned != null ? (int) ChronoUnit.DAYS.between(firstLearned, lastLearned) : 0)
+                .build();
     }
 
-    // ==================== REVIEW STATS ====================
+    // ==================== CATEGORIES ====================
 
-    private Long getReviewsThisWeek(Long userId) {
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        return reviewRepository.countRecentReviews(userId, weekAgo);
-    }
-
-    private Long getReviewsThisMonth(Long userId) {
-        LocalDateTime monthAgo = LocalDateTime.now().minusDays(30);
-        return reviewRepository.countRecentReviews(userId, monthAgo);
+    // Categories with their topic count, average confidence and confidence bands, largest first
+    public List<CategoryStats> getCategoryStats(Long userId) {
+        return userStatsService.getCategoryStats(userId).stream()
+                .map(this::toCategoryStats)
+                .collect(Collectors.toList());
     }
 
-    private Double getAverageReviewRating(Long userId) {
-        List<ReviewSession> reviews = reviewRepository.findByUserIdOrderByReviewedAtDesc(userId);
-        if (reviews.isEmpty()) return 0.0;
-
-        double avgRating = reviews.stream()
-                .mapToInt(ReviewSession::getRating)
-                .average()
-                .orElse(0.0);
-
-        return Math.round(avgRating * 100.0) / 100.0;
+    // One category's figures with a keyset page of its topics
+    public CategoryDetailResponse getCategoryDetail(Long userId, String category, String cursor, Integer size) {
+        CategoryStats stats = userStatsService.getCategoryStats(userId).stream()
+                .filter(row -> row.getCategory().equalsIgnoreCase(category))
+                .findFirst()
+                .map(this::toCategoryStats)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found: " + category));
+
+        return CategoryDetailResponse.builder()
+                .stats(stats)
+                .topics(topicService.getTopicsPage(userId, stats.getCategory(), cursor, size))
+                .build();
     }
 
-    private Long getTotalTimeSpent(Long userId) {
-        Long total = reviewRepository.getTotalTimeSpent(userId);
-        return total != null ? total : 0L;
+    private CategoryStats toCategoryStats(UserCategoryStats row) {
+        return CategoryStats.builder()
+                .category(row.getCategory())
+                .count(row.getTopics())
+                .averageConfidence(average(row.getConfidenceSum(), row.getConfidenceCount()))
+                .weakTopics(row.getWeakTopics())
+                .moderateTopics(row.getModerateTopics())
+                .strongTopics(row.getStrongTopics())
+                .build();
     }
 
-    // ==================== CONFIDENCE STATS ====================
-
-    private Double getAverageConfidence(Long userId) {
-        List<Topic> topics = topicRepository.findByUserId(userId);
-        if (topics.isEmpty()) return 0.0;
+    // ==================== CONFIDENCE ====================
 
-        double avgConfidence = topics.stream()
-                .filter(t -> t.getConfidenceLevel() != null)
-                .mapToInt(Topic::getConfidenceLevel)
-                .average()
-                .orElse(0.0);
+    /**
+     * Topics per confidence level and per band, from one GROUP BY over the (user_id, confidence_level) index
+     */
+    public ConfidenceHistogramResponse getConfidenceHistogram(Long userId) {
+        List<ConfidenceCount> histogram = topicRepository.countByConfidenceLevel(userId);
 
-        return Math.round(avgConfidence * 100.0) / 100.0;
-    }
-
-    private Long getWeakTopicsCount(Long userId) {
-        return (long) topicRepository.findByUserIdAndConfidenceLevelLessThan(userId, 3).size();
-    }
-
-    private Long getModerateTopicsCount(Long userId) {
-        List<Topic> topics = topicRepository.findByUserId(userId);
-        return topics.stream()
-                .filter(t -> t.getConfidenceLevel() != null && t.getConfidenceLevel() == 3)
-                .count();
-    }
+        Map<Integer, Long> byLevel = new TreeMap<>();
+        for (int level = ConfidenceBands.MIN_LEVEL; level <= ConfidenceBands.MAX_LEVEL; level++) {
+            byLevel.put(level, 0L);
+        }
+        long unrated = 0;
+        for (ConfidenceCount row : histogram) {
+            if (row.getLevel() == null) {
+                unrated += row.getCount();
+            } else {
+                byLevel.put(row.getLevel(), row.getCount());
+            }
+        }
 
-    private Long getStrongTopicsCount(Long userId) {
-        List<Topic> topics = topicRepository.findByUserId(userId);
-        return topics.stream()
-                .filter(t -> t.getConfidenceLevel() != null && t.getConfidenceLevel() >= 4)
-                .count();
+        List<ConfidenceLevelCount> levels = new ArrayList<>(byLevel.size());
+        byLevel.forEach((level, count) -> levels.add(ConfidenceLevelCount.builder()
+                .level(level)
+                .count(count)
+                .band(confidenceBands.bandOf(level).name())
+                .build()));
+
+        long[] bands = confidenceBands.count(histogram);
+        return ConfidenceHistogramResponse.builder()
+                .levels(levels)
+                .unratedTopics(unrated)
+                .weakTopics(bands[ConfidenceBands.Band.WEAK.ordinal()])
+                .moderateTopics(bands[ConfidenceBands.Band.MODERATE.ordinal()])
+                .strongTopics(bands[ConfidenceBands.Band.STRONG.ordinal()])
+                .weakBelow(confidenceBands.getWeakBelow())
+                .strongFrom(confidenceBands.getStrongFrom())
+                .build();
     }
 
-    // ==================== DUE TOPICS ====================
+    // ==================== MONTHLY PROGRESS ====================
 
-    private Long getTopicsDueToday(Long userId) {
-        List<ReviewSession> dueReviews = reviewRepository.findDueReviews(userId, LocalDate.now());
-        return (long) dueReviews.size();
-    }
+    /**
+     * Topics learned and reviews completed per month, oldest first, over the last {@code months}
+     * months (default app.dashboard.monthly-window-months). The database groups the rows, so the
+     * cost depends on the window, not on how much history the user has.
+     */
+    public List<MonthlyProgress> getMonthlyProgress(Long userId, Integer months) {
+        int window = months != null ? months : monthlyWindowMonths;
+        if (window < 1 || window > MAX_MONTHLY_WINDOW) {
+            throw new BadRequestException("months must be between 1 and " + MAX_MONTHLY_WINDOW);
+        }
 
-    private Long getTopicsOverdue(Long userId) {
-        List<ReviewSession> overdueReviews = reviewRepository.findDueReviews(
-                userId,
-                LocalDate.now().minusDays(1)
-        );
-        return (long) overdueReviews.size();
-    }
+        YearMonth current = YearMonth.now();
+        YearMonth first = current.minusMonths(window - 1);
+        LocalDate since = first.atDay(1);
 
-    private Long getAtRiskTopicsCount(Long userId) {
-        LocalDate threshold = LocalDate.now().minusDays(90);
-        List<Topic> topics = topicRepository.findByUserId(userId);
+        Map<YearMonth, Long> topics = byMonth(topicRepository.countLearnedByMonth(userId, since));
+        Map<YearMonth, Long> reviews = byMonth(reviewRepository.countReviewsByMonth(userId, since.atStartOfDay()));
 
-        return topics.stream()
-                .filter(t -> t.getLastReviewed() != null && t.getLastReviewed().isBefore(threshold))
-                .count();
+        return progress(first, current, month -> topics.getOrDefault(month, 0L),
+                month -> reviews.getOrDefault(month, 0L));
     }
 
-    // ==================== CATEGORY BREAKDOWN ====================
-
-    private List<CategoryStats> getTopicsByCategory(Long userId) {
-        List<Topic> topics = topicRepository.findByUserId(userId);
-
-        Map<String, List<Topic>> byCategory = topics.stream()
-                .filter(t -> t.getCategory() != null)
-                .collect(Collectors.groupingBy(Topic::getCategory));
-
-        return byCategory.entrySet().stream()
-                .map(entry -> {
-                    String category = entry.getKey();
-                    List<Topic> categoryTopics = entry.getValue();
-
-                    double avgConfidence = categoryTopics.stream()
-                            .filter(t -> t.getConfidenceLevel() != null)
-                            .mapToInt(Topic::getConfidenceLevel)
-                            .average()
-                            .orElse(0.0);
-
-                    return CategoryStats.builder()
-                            .category(category)
-                            .count((long) categoryTopics.size())
-                            .averageConfidence(Math.round(avgConfidence * 100.0) / 100.0)
-                            .build();
-                })
-                .sorted(Comparator.comparing(CategoryStats::getCount).reversed())
-                .collect(Collectors.toList());
-    }
-
-    // ==================== MONTHLY PROGRESS ====================
-
-    private List<MonthlyProgress> getMonthlyProgress(Long userId) {
-        List<Topic> topics = topicRepository.findByUserId(userId);
-        List<ReviewSession> reviews = reviewRepository.findByUserIdOrderByReviewedAtDesc(userId);
-
-        Map<String, Long> topicsByMonth = topics.stream()
-                .filter(t -> t.getLearnedDate() != null)
-                .collect(Collectors.groupingBy(
-                        t -> t.getLearnedDate().format(DateTimeFormatter.ofPattern("yyyy-MM")),
-                        Collectors.counting()
-                ));
-
-        Map<String, Long> reviewsByMonth = reviews.stream()
-                .collect(Collectors.groupingBy(
-                        r -> r.getReviewedAt().format(DateTimeFormatter.ofPattern("yyyy-MM")),
-                        Collectors.counting()
-                ));
-
+    // Helper: One entry per month from first to current, oldest first
+    private List<MonthlyProgress> progress(YearMonth first, YearMonth current,
+                                           ToLongFunction<YearMonth> topicsLearned,
+                                           ToLongFunction<YearMonth> reviewsCompleted) {
         List<MonthlyProgress> progress = new ArrayList<>();
-        LocalDate now = LocalDate.now();
-
-        for (int i = 11; i >= 0; i--) {
-            LocalDate month = now.minusMonths(i);
-            String monthKey = month.format(DateTimeFormatter.ofPattern("yyyy-MM"));
-            String monthName = month.format(DateTimeFormatter.ofPattern("MMMM yyyy"));
-
+        for (YearMonth month = first; !month.isAfter(current); month = month.plusMonths(1)) {
             progress.add(MonthlyProgress.builder()
-                    .month(monthKey)
-                    .monthName(monthName)
-                    .topicsLearned(topicsByMonth.getOrDefault(monthKey, 0L))
-                    .reviewsCompleted(reviewsByMonth.getOrDefault(monthKey, 0L))
+                    .month(month.format(MONTH_KEY))
+                    .monthName(month.format(MONTH_NAME))
+                    .topicsLearned(topicsLearned.applyAsLong(month))
+                    .reviewsCompleted(reviewsCompleted.applyAsLong(month))
                     .build());
         }
-
         return progress;
     }
 
-    // ==================== STREAK CALCULATION ====================
-
-    private Integer calculateCurrentStreak(Long userId) {
-        List<ReviewSession> reviews = reviewRepository.findByUserIdOrderByReviewedAtDesc(userId);
-        if (reviews.isEmpty()) return 0;
-
-        Set<LocalDate> reviewDates = reviews.stream()
-                .map(r -> r.getReviewedAt().toLocalDate())
-                .collect(Collectors.toSet());
-
-        LocalDate today = LocalDate.now();
-        int streak = 0;
-
-        if (!reviewDates.contains(today) && !reviewDates.contains(today.minusDays(1))) {
-            return 0;
-        }
-
-        LocalDate checkDate = today;
-        while (reviewDates.contains(checkDate)) {
-            streak++;
-            checkDate = checkDate.minusDays(1);
+    private Map<YearMonth, Long> byMonth(List<MonthlyCount> counts) {
+        Map<YearMonth, Long> byMonth = new HashMap<>();
+        for (MonthlyCount count : counts) {
+            byMonth.put(YearMonth.of(count.getYear(), count.getMonth()), count.getCount());
         }
-
-        return streak;
-    }
-
-    private Integer calculateLongestStreak(Long userId) {
-        List<ReviewSession> reviews = reviewRepository.findByUserIdOrderByReviewedAtDesc(userId);
-        if (reviews.isEmpty()) return 0;
-
-        Set<LocalDate> reviewDates = reviews.stream()
-                .map(r -> r.getReviewedAt().toLocalDate())
-                .collect(Collectors.toSet());
-
-        List<LocalDate> sortedDates = new ArrayList<>(reviewDates);
-        Collections.sort(sortedDates);
-
-        int longestStreak = 0;
-        int currentStreak = 1;
-
-        for (int i = 1; i < sortedDates.size(); i++) {
-            long daysBetween = ChronoUnit.DAYS.between(sortedDates.get(i - 1), sortedDates.get(i));
-
-            if (daysBetween == 1) {
-                currentStreak++;
-            } else {
-                longestStreak = Math.max(longestStreak, currentStreak);
-                currentStreak = 1;
-            }
-        }
-
-        return Math.max(longestStreak, currentStreak);
+        return byMonth;
     }
 
-    private LocalDate getLastReviewDate(Long userId) {
-        return reviewRepository.findFirstByUserIdOrderByReviewedAtDesc(userId)
-                .map(r -> r.getReviewedAt().toLocalDate())
-                .orElse(null);
-    }
-
-    private Boolean isReviewedToday(Long userId) {
-        LocalDate today = LocalDate.now();
-        List<ReviewSession> reviews = reviewRepository.findByUserIdOrderByReviewedAtDesc(userId);
-
-        return reviews.stream()
-                .anyMatch(r -> r.getReviewedAt().toLocalDate().equals(today));
+    // Mean rounded to 2 decimals, 0 when there is nothing to average
+    private Double average(Long sum, Long count) {
+        if (count == null || count == 0) return 0.0;
+        return Math.round((double) sum / count * 100.0) / 100.0;
     }
 
     // ==================== LEARNING PATH ====================
@@ -322,32 +287,11 @@ public class DashboardService {
         return count != null ? count.intValue() : 0;
     }
 
-    private String getJourneyStartDate(Long userId) {
-        return topicRepository.findByUserId(userId).stream()
-                .map(Topic::getLearnedDate)
-                .filter(Objects::nonNull)
-                .min(LocalDate::compareTo)
-                .map(LocalDate::toString)
-                .orElse(null);
-    }
-
-    private Integer getJourneyDuration(Long userId) {
-        List<Topic> topics = topicRepository.findByUserId(userId);
-
-        Optional<LocalDate> start = topics.stream()
-                .map(Topic::getLearnedDate)
-                .filter(Objects::nonNull)
-                .min(LocalDate::compareTo);
-
-        Optional<LocalDate> end = topics.stream()
-                .map(Topic::getLearnedDate)
-                .filter(Objects::nonNull)
-                .max(LocalDate::compareTo);
-
-        if (start.isPresent() && end.isPresent()) {
-            return (int) ChronoUnit.DAYS.between(start.get(), end.get());
+    private Integer getJourneyDuration(UserStats stats) {
+        if (stats.getFirstLearnedDate() != null && stats.getLastLearnedDate() != null) {
+            return (int) ChronoUnit.DAYS.between(stats.getFirstLearnedDate(), stats.getLastLearnedDate());
         }
 
         return 0;
     }
-}
\ No newline at end of file
+}
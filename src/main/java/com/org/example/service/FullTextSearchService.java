@@ -0,0 +1,64 @@
+package com.org.example.service;
+
+import com.org.example.enums.ContentType;
+import com.org.example.repository.FullTextHit;
+import com.org.example.repository.NoteRepository;
+import com.org.example.repository.ProjectRepository;
+import com.org.example.search.BooleanModeQuery;
+import com.org.example.search.SearchDocKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Note and project search backed by MySQL FULLTEXT indexes (app.search.engine=fulltext).
+ * The indexes are created by FullTextIndexInitializer.
+ */
+@Service
+@RequiredArgsConstructor
+public class FullTextSearchService {
+
+    private final NoteRepository noteRepository;
+    private final ProjectRepository projectRepository;
+
+    // "natural" (natural language mode, default) or "boolean" (+must -mustNot "phrase" prefix*)
+    @Value("${app.search.fulltext.mode:natural}")
+    private String mode;
+
+    /**
+     * Find the user's notes and projects matching the query, with their MySQL relevance score
+     */
+    public Map<SearchDocKey, Double> search(Long userId, String query) {
+        List<FullTextHit> noteHits;
+        List<FullTextHit> projectHits;
+
+        if ("boolean".equalsIgnoreCase(mode)) {
+            // Operators InnoDB cannot parse ("c++", an unbalanced quote) would be a syntax error
+            String booleanQuery = BooleanModeQuery.sanitize(query);
+            if (booleanQuery.isEmpty()) {
+                return new HashMap<>();
+            }
+            try {
+                noteHits = noteRepository.fullTextSearchBoolean(userId, booleanQuery);
+                projectHits = projectRepository.fullTextSearchBoolean(userId, booleanQuery);
+            } catch (DataAccessException e) {
+                // Still not accepted: the natural language mode has no syntax to get wrong
+                noteHits = noteRepository.fullTextSearchNatural(userId, query);
+                projectHits = projectRepository.fullTextSearchNatural(userId, query);
+            }
+        } else {
+            noteHits = noteRepository.fullTextSearchNatural(userId, query);
+            projectHits = projectRepository.fullTextSearchNatural(userId, query);
+        }
+
+        Map<SearchDocKey, Double> hits = new HashMap<>();
+        noteHits.forEach(hit -> hits.put(new SearchDocKey(ContentType.NOTE, hit.getId()), hit.getScore()));
+        projectHits.forEach(hit -> hits.put(new SearchDocKey(ContentType.PROJECT, hit.getId()), hit.getScore()));
+        return hits;
+    }
+}
@@ -0,0 +1,419 @@
+package com.org.example.service;
+
+import com.org.example.entities.Note;
+import com.org.example.entities.Project;
+import com.org.example.entities.Topic;
+import com.org.example.enums.ContentType;
+import com.org.example.event.ContentChangedEvent;
+import com.org.example.repository.NoteRepository;
+import com.org.example.repository.ProjectRepository;
+import com.org.example.repository.TopicRepository;
+import com.org.example.search.CodeTokenizer;
+import com.org.example.search.SearchDocKey;
+import com.org.example.search.SearchTokenizer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Embedded Lucene search engine (app.search.engine=lucene).
+ *
+ * Keeps one on-disk index (memory-mapped) of every user's topics, notes and projects,
+ * updated near-real-time from ContentChangedEvent: a write is searchable after a reader
+ * refresh, and reaches disk with the periodic commit (app.search.lucene.commit-interval-ms)
+ * or on shutdown. Queries support the classic Lucene syntax: phrases ("spring boot"),
+ * fuzzy terms (kubernetes~), prefixes (jav*) and field boosts favour titles and tags over
+ * body text. {@link #searchFuzzy} serves the typo-tolerant search flag.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "lucene")
+public class LuceneSearchService {
+
+    private static final String FIELD_KEY = "key";
+    private static final String FIELD_USER = "userId";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_TAGS = "tags";
+    private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_BODY = "body";
+    private static final String FIELD_CODE = "code";
+
+    // Matches in titles and tags matter more than matches in long text
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_TAGS, 2.0f,
+            FIELD_CATEGORY, 1.5f,
+            FIELD_BODY, 1.0f,
+            FIELD_CODE, 1.0f);
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final TopicRepository topicRepository;
+    private final NoteRepository noteRepository;
+    private final ProjectRepository projectRepository;
+
+    @Value("${app.search.lucene.directory:./data/search-index}")
+    private String indexDirectory;
+
+    @Value("${app.search.lucene.max-hits:1000}")
+    private int maxHits;
+
+    @Value("${app.search.lucene.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    // Excludes writes while a rebuild replaces the index (writes share the read side)
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    // Writes arriving while a rebuild runs, applied after it; null when no rebuild is running
+    private final Object pendingLock = new Object();
+    private List<ContentChangedEvent> pendingDuringRebuild;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private MMapDirectory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = new MMapDirectory(Path.of(indexDirectory));
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+
+        if (rebuildOnStartup || !DirectoryReader.indexExists(directory)) {
+            rebuild();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Find the user's documents matching the query, with their Lucene score
+     */
+    public Map<SearchDocKey, Double> search(Long userId, String queryText) {
+        return execute(userId, parse(queryText));
+    }
+
+    /**
+     * Typo-tolerant variant: every query word must match some field within a small edit
+     * distance (1 edit from 4 characters, 2 from 8), as in the in-memory engine
+     */
+    public Map<SearchDocKey, Double> searchFuzzy(Long userId, String queryText) {
+        BooleanQuery.Builder words = new BooleanQuery.Builder();
+        boolean any = false;
+        for (String token : SearchTokenizer.tokenize(queryText)) {
+            if (CodeTokenizer.SYMBOLS.contains(token)) {
+                continue;
+            }
+            BooleanQuery.Builder fields = new BooleanQuery.Builder();
+            for (Map.Entry<String, Float> field : FIELD_BOOSTS.entrySet()) {
+                Term term = new Term(field.getKey(), token);
+                int maxEdits = maxEdits(token);
+                Query match = maxEdits > 0 ? new FuzzyQuery(term, maxEdits) : new TermQuery(term);
+                fields.add(new BoostQuery(match, field.getValue()), BooleanClause.Occur.SHOULD);
+            }
+            words.add(fields.build(), BooleanClause.Occur.MUST);
+            any = true;
+        }
+        return any ? execute(userId, words.build()) : new LinkedHashMap<>();
+    }
+
+    // Helper: Run a query restricted to the user's documents
+    private Map<SearchDocKey, Double> execute(Long userId, Query userQuery) {
+        Query query = new BooleanQuery.Builder()
+                .add(userQuery, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(FIELD_USER, userId.toString())), BooleanClause.Occur.FILTER)
+                .build();
+
+        Map<SearchDocKey, Double> hits = new LinkedHashMap<>();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                for (ScoreDoc scoreDoc : searcher.search(query, maxHits).scoreDocs) {
+                    Document document = searcher.storedFields().document(scoreDoc.doc);
+                    hits.put(new SearchDocKey(
+                                    ContentType.valueOf(document.get(FIELD_TYPE)),
+                                    document.getField(FIELD_ID).numericValue().longValue()),
+                            (double) scoreDoc.score);
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return hits;
+    }
+
+    /**
+     * Apply topic, note and project writes to the index and make them searchable (reader
+     * refresh only; the commit to disk is periodic). Writes arriving during a rebuild are
+     * buffered and applied after it, so the rebuild's older snapshot cannot overwrite them.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)  // Before the search cache is invalidated
+    public void onContentChanged(ContentChangedEvent event) throws IOException {
+        synchronized (pendingLock) {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+                return;
+            }
+        }
+
+        // A rebuild starting after the check above waits for this write, or this write waits for it
+        rebuildLock.readLock().lock();
+        try {
+            apply(event);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * Make the writes since the last commit durable (one fsync per interval, not per write).
+     * Closing the writer commits too; after a crash, run once with rebuild-on-startup to
+     * recover the writes of the last interval.
+     */
+    @Scheduled(fixedDelayString = "${app.search.lucene.commit-interval-ms:30000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    /**
+     * Re-index everything from the database (POST /actuator/searchindex, app.search.lucene.rebuild-on-startup,
+     * or automatically when the index directory is empty). Writes committed meanwhile are replayed
+     * once the rebuild is done.
+     *
+     * @return number of documents in the index
+     */
+    public synchronized int rebuild() throws IOException {
+        synchronized (pendingLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            rebuildLock.writeLock().lock();
+            try {
+                reindexAll();
+            } finally {
+                rebuildLock.writeLock().unlock();
+            }
+        } finally {
+            replayPending();
+        }
+
+        writer.commit();
+        searcherManager.maybeRefresh();
+        return writer.getDocStats().numDocs;
+    }
+
+    // Helper: Replace the whole index with the database's topics, notes and projects
+    private void reindexAll() throws IOException {
+        writer.deleteAll();
+
+        // Notes only know their topic, so remember which user owns each topic
+        Map<Long, Long> topicOwners = new HashMap<>();
+
+        Page<Topic> topics;
+        int page = 0;
+        do {
+            topics = topicRepository.findAll(PageRequest.of(page++, REBUILD_BATCH_SIZE));
+            for (Topic topic : topics) {
+                topicOwners.put(topic.getId(), topic.getUserId());
+                writer.addDocument(toDocument(topic));
+            }
+        } while (topics.hasNext());
+
+        Page<Note> notes;
+        page = 0;
+        do {
+            notes = noteRepository.findAll(PageRequest.of(page++, REBUILD_BATCH_SIZE));
+            for (Note note : notes) {
+                Long owner = topicOwners.get(note.getTopicId());
+                if (owner != null) {
+                    writer.addDocument(toDocument(note, owner));
+                }
+            }
+        } while (notes.hasNext());
+
+        Page<Project> projects;
+        page = 0;
+        do {
+            projects = projectRepository.findAll(PageRequest.of(page++, REBUILD_BATCH_SIZE));
+            for (Project project : projects) {
+                writer.addDocument(toDocument(project));
+            }
+        } while (projects.hasNext());
+    }
+
+    // Helper: Apply the writes buffered during a rebuild until none are left, then stop buffering
+    private void replayPending() throws IOException {
+        while (true) {
+            List<ContentChangedEvent> batch;
+            synchronized (pendingLock) {
+                batch = pendingDuringRebuild;
+                if (batch.isEmpty()) {
+                    pendingDuringRebuild = null;
+                    return;
+                }
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            for (ContentChangedEvent event : batch) {
+                apply(event);
+            }
+        }
+    }
+
+    // Helper: Re-read one changed document and update (or delete) it; a deleted topic takes its notes with it
+    private void apply(ContentChangedEvent event) throws IOException {
+        Term key = new Term(FIELD_KEY, keyOf(event.getType(), event.getId()));
+
+        if (event.isDeleted()) {
+            writer.deleteDocuments(key);
+            if (event.getType() == ContentType.TOPIC) {
+                // The topic's notes stay in the database but are no longer searchable
+                for (Note note : noteRepository.findByTopicId(event.getId())) {
+                    writer.deleteDocuments(new Term(FIELD_KEY, keyOf(ContentType.NOTE, note.getId())));
+                }
+            }
+            return;
+        }
+
+        Document document = null;
+        switch (event.getType()) {
+            case TOPIC:
+                document = topicRepository.findById(event.getId()).map(this::toDocument).orElse(null);
+                break;
+            case NOTE:
+                document = noteRepository.findById(event.getId())
+                        .map(note -> toDocument(note, event.getUserId())).orElse(null);
+                break;
+            case PROJECT:
+                document = projectRepository.findById(event.getId()).map(this::toDocument).orElse(null);
+                break;
+        }
+        if (document != null) {
+            writer.updateDocument(key, document);
+        }
+    }
+
+    // Helper: Parse user query syntax, falling back to a literal match when it is not valid syntax
+    private Query parse(String queryText) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                FIELD_BOOSTS.keySet().toArray(new String[0]), analyzer, FIELD_BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(queryText);
+        } catch (ParseException e) {
+            try {
+                return parser.parse(QueryParser.escape(queryText));
+            } catch (ParseException escaped) {
+                throw new IllegalStateException(escaped);
+            }
+        }
+    }
+
+    // Helper: Edits tolerated for a query word (short words have too many neighbours to correct)
+    private static int maxEdits(String token) {
+        if (token.length() >= 8) return 2;
+        if (token.length() >= 4) return 1;
+        return 0;
+    }
+
+    private Document toDocument(Topic topic) {
+        Document document = baseDocument(ContentType.TOPIC, topic.getId(), topic.getUserId());
+        addText(document, FIELD_TITLE, topic.getName());
+        addText(document, FIELD_CATEGORY, topic.getCategory());
+        addText(document, FIELD_TAGS, topic.getTags());
+        return document;
+    }
+
+    private Document toDocument(Note note, Long userId) {
+        Document document = baseDocument(ContentType.NOTE, note.getId(), userId);
+        addText(document, FIELD_TITLE, note.getTitle());
+        addText(document, FIELD_BODY, note.getContent());
+        // Code is pre-split into identifier parts so "hash" finds HashMap
+        addText(document, FIELD_CODE, String.join(" ", CodeTokenizer.tokenize(note.getCodeSnippet(), note.getLanguage())));
+        addText(document, FIELD_TAGS, note.getTags());
+        return document;
+    }
+
+    private Document toDocument(Project project) {
+        Document document = baseDocument(ContentType.PROJECT, project.getId(), project.getUserId());
+        addText(document, FIELD_TITLE, project.getName());
+        addText(document, FIELD_BODY, project.getDescription());
+        return document;
+    }
+
+    private Document baseDocument(ContentType type, Long id, Long userId) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_KEY, keyOf(type, id), Field.Store.NO));
+        document.add(new StringField(FIELD_USER, userId.toString(), Field.Store.NO));
+        document.add(new StringField(FIELD_TYPE, type.name(), Field.Store.YES));
+        document.add(new StoredField(FIELD_ID, id));
+        return document;
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (value != null && !value.isEmpty()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private String keyOf(ContentType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
@@ -1,19 +1,30 @@
 package com.org.example.service;
 
 
+import com.org.example.dto.CursorPage;
 import com.org.example.dto.NoteRequest;
 import com.org.example.dto.NoteResponse;
 import com.org.example.entities.Note;
 import com.org.example.entities.Topic;
+import com.org.example.enums.ContentType;
+import com.org.example.event.ContentChangedEvent;
 import com.org.example.exception.ResourceNotFoundException;
 import com.org.example.exception.UnauthorizedException;
 import com.org.example.mapper.NoteMapper;
 import com.org.example.repository.NoteRepository;
 import com.org.example.repository.TopicRepository;
+import com.org.example.search.BooleanModeQuery;
+import com.org.example.search.SearchText;
+import com.org.example.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +35,13 @@ public class NoteService {
     private final NoteRepository noteRepository;
     private final TopicRepository topicRepository;
     private final NoteMapper noteMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.search.engine:index}")
+    private String searchEngine;
+
+    @Value("${app.search.fulltext.mode:natural}")
+    private String fullTextMode;
 
     // Create a note for a topic
     @Transactional
@@ -34,6 +52,8 @@ public class NoteService {
         Note note = noteMapper.toEntity(request, topicId);
         Note savedNote = noteRepository.save(note);
 
+        eventPublisher.publishEvent(ContentChangedEvent.saved(userId, ContentType.NOTE, savedNote.getId()));
+
         return noteMapper.toResponse(savedNote, topic.getName());
     }
 
@@ -61,6 +81,36 @@ public class NoteService {
                 .collect(Collectors.toList());
     }
 
+    // Get one keyset page of notes for a topic, in id order
+    public CursorPage<NoteResponse> getNotesPage(Long topicId, String cursor, Integer size, Long userId) {
+        // Verify topic ownership
+        Topic topic = validateTopicOwnership(topicId, userId);
+
+        int pageSize = CursorCodec.pageSize(size);
+        Long afterId = cursor != null ? CursorCodec.toLong(CursorCodec.decode(cursor, 1)[0]) : 0L;
+
+        // Fetch one extra row to know whether another page exists
+        List<Note> notes = noteRepository.findByTopicIdAndIdGreaterThanOrderByIdAsc(
+                topicId, afterId, Limit.of(pageSize + 1));
+
+        boolean hasMore = notes.size() > pageSize;
+        if (hasMore) {
+            notes = notes.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore
+                ? CursorCodec.encode(String.valueOf(notes.get(notes.size() - 1).getId()))
+                : null;
+
+        return CursorPage.<NoteResponse>builder()
+                .items(notes.stream()
+                        .map(note -> noteMapper.toResponse(note, topic.getName()))
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
     // Update a note
     @Transactional
     public NoteResponse updateNote(Long topicId, Long noteId, NoteRequest request, Long userId) {
@@ -74,6 +124,8 @@ public class NoteService {
         noteMapper.updateEntity(note, request);
         Note updatedNote = noteRepository.save(note);
 
+        eventPublisher.publishEvent(ContentChangedEvent.saved(userId, ContentType.NOTE, noteId));
+
         return noteMapper.toResponse(updatedNote, topic.getName());
     }
 
@@ -88,6 +140,21 @@ public class NoteService {
                         "Note not found with id: " + noteId + " for topic: " + topicId));
 
         noteRepository.delete(note);
+
+        eventPublisher.publishEvent(ContentChangedEvent.deleted(userId, ContentType.NOTE, noteId));
+    }
+
+    // Helper: Boolean mode search with operators InnoDB cannot parse removed, natural mode if it still fails
+    private List<Note> searchInTopicBoolean(Long topicId, String keyword) {
+        String booleanQuery = BooleanModeQuery.sanitize(keyword);
+        if (booleanQuery.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            return noteRepository.fullTextSearchInTopicBoolean(topicId, booleanQuery);
+        } catch (DataAccessException e) {
+            return noteRepository.fullTextSearchInTopicNatural(topicId, keyword);
+        }
     }
 
     // Search notes within a topic
@@ -95,7 +162,17 @@ public class NoteService {
         // Verify topic ownership
         Topic topic = validateTopicOwnership(topicId, userId);
 
-        List<Note> notes = noteRepository.searchNotesByKeyword(topicId, keyword);
+        List<Note> notes;
+        if ("fulltext".equalsIgnoreCase(searchEngine)) {
+            notes = "boolean".equalsIgnoreCase(fullTextMode)
+                    ? searchInTopicBoolean(topicId, keyword)
+                    : noteRepository.fullTextSearchInTopicNatural(topicId, keyword);
+        } else {
+            String normalized = SearchText.normalizeQuery(keyword);
+            notes = normalized.isEmpty()
+                    ? Collections.emptyList()
+                    : noteRepository.searchNotesByKeyword(topicId, normalized);
+        }
 
         return notes.stream()
                 .map(note -> noteMapper.toResponse(note, topic.getName()))
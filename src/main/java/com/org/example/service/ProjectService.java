@@ -5,13 +5,16 @@ import com.org.example.dto.ProjectRequest;
 import com.org.example.dto.ProjectResponse;
 import com.org.example.entities.Project;
 import com.org.example.entities.Topic;
+import com.org.example.enums.ContentType;
 import com.org.example.enums.ProjectStatus;
+import com.org.example.event.ContentChangedEvent;
 import com.org.example.exception.ResourceNotFoundException;
 import com.org.example.exception.UnauthorizedException;
 import com.org.example.mapper.ProjectMapper;
 import com.org.example.repository.ProjectRepository;
 import com.org.example.repository.TopicRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +30,7 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final TopicRepository topicRepository;
     private final ProjectMapper projectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Create a new project
     @Transactional
@@ -40,6 +44,8 @@ public class ProjectService {
         }
 
         Project savedProject = projectRepository.save(project);
+
+        eventPublisher.publishEvent(ContentChangedEvent.saved(userId, ContentType.PROJECT, savedProject.getId()));
         return projectMapper.toResponse(savedProject);
     }
 
@@ -94,6 +100,8 @@ public class ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
+
+        eventPublisher.publishEvent(ContentChangedEvent.saved(userId, ContentType.PROJECT, id));
         return projectMapper.toResponse(updatedProject);
     }
 
@@ -104,6 +112,8 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
 
         projectRepository.delete(project);
+
+        eventPublisher.publishEvent(ContentChangedEvent.deleted(userId, ContentType.PROJECT, id));
     }
 
     // Add topics to existing project
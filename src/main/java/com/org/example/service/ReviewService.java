@@ -1,23 +1,32 @@
 package com.org.example.service;
 
 
+import com.org.example.dto.CursorPage;
 import com.org.example.dto.ReviewRequest;
 import com.org.example.dto.ReviewResponse;
 import com.org.example.dto.ReviewStatsResponse;
 import com.org.example.entities.ReviewSession;
 import com.org.example.entities.Topic;
+import com.org.example.event.ReviewRecordedEvent;
+import com.org.example.exception.BadRequestException;
 import com.org.example.exception.ResourceNotFoundException;
 import com.org.example.exception.UnauthorizedException;
 import com.org.example.mapper.ReviewMapper;
 import com.org.example.repository.ReviewSessionRepository;
 import com.org.example.repository.TopicRepository;
+import com.org.example.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +37,7 @@ public class ReviewService {
     private final TopicRepository topicRepository;
     private final ReviewMapper reviewMapper;
     private final SM2AlgorithmService sm2AlgorithmService;  // NEW
+    private final ApplicationEventPublisher eventPublisher;
 
     // Record a review session (using simple method)
 
@@ -91,6 +101,9 @@ public class ReviewService {
         // Save updated topic
         topicRepository.save(topic);
 
+        eventPublisher.publishEvent(new ReviewRecordedEvent(userId, topicId, savedReview.getId(),
+                savedReview.getReviewedAt()));
+
         return reviewMapper.toResponse(savedReview, topic.getName());
     }
 
@@ -121,6 +134,47 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
+    // Get one keyset page of a user's reviews, newest first
+    public CursorPage<ReviewResponse> getReviewsPage(Long userId, String cursor, Integer size) {
+        int pageSize = CursorCodec.pageSize(size);
+
+        // Fetch one extra row to know whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<ReviewSession> reviews;
+        if (cursor == null) {
+            reviews = reviewRepository.findByUserIdOrderByReviewedAtDescIdDesc(userId, limit);
+        } else {
+            String[] position = CursorCodec.decode(cursor, 2);
+            reviews = reviewRepository.findPageBefore(
+                    userId, parseReviewedAt(position[0]), CursorCodec.toLong(position[1]), limit);
+        }
+
+        boolean hasMore = reviews.size() > pageSize;
+        if (hasMore) {
+            reviews = reviews.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            ReviewSession last = reviews.get(reviews.size() - 1);
+            nextCursor = CursorCodec.encode(last.getReviewedAt().toString(), String.valueOf(last.getId()));
+        }
+
+        // Resolve topic names for the page in one query
+        Set<Long> topicIds = reviews.stream().map(ReviewSession::getTopicId).collect(Collectors.toSet());
+        Map<Long, String> topicNames = topicRepository.findAllById(topicIds).stream()
+                .collect(Collectors.toMap(Topic::getId, Topic::getName));
+
+        return CursorPage.<ReviewResponse>builder()
+                .items(reviews.stream()
+                        .map(review -> reviewMapper.toResponse(review,
+                                topicNames.getOrDefault(review.getTopicId(), "Unknown Topic")))
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
     // Get latest review for a topic
     public ReviewResponse getLatestReview(Long topicId, Long userId) {
         // Verify topic ownership
@@ -221,6 +275,15 @@ public class ReviewService {
         }
     }
 
+    // Helper: Parse the reviewedAt part of a review cursor
+    private LocalDateTime parseReviewedAt(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
     // Helper: Validate topic ownership
     private Topic validateTopicOwnership(Long topicId, Long userId) {
         return topicRepository.findByIdAndUserId(topicId, userId)
@@ -0,0 +1,366 @@
+package com.org.example.service;
+
+import com.org.example.dto.HighlightRange;
+import com.org.example.dto.SavedSearchRequest;
+import com.org.example.dto.SavedSearchResponse;
+import com.org.example.dto.SearchRequest;
+import com.org.example.dto.SearchResponse;
+import com.org.example.dto.SearchResultItem;
+import com.org.example.entities.SavedSearch;
+import com.org.example.entities.SavedSearchResult;
+import com.org.example.entities.Topic;
+import com.org.example.enums.ContentType;
+import com.org.example.event.ContentChangedEvent;
+import com.org.example.event.ReviewRecordedEvent;
+import com.org.example.exception.BadRequestException;
+import com.org.example.exception.ResourceNotFoundException;
+import com.org.example.repository.SavedSearchRepository;
+import com.org.example.repository.SavedSearchResultRepository;
+import com.org.example.repository.TopicRepository;
+import com.org.example.repository.TopicSpecifications;
+import com.org.example.search.SearchTokenizer;
+import com.org.example.search.Snippet;
+import com.org.example.search.SnippetBuilder;
+import com.org.example.util.CursorCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Saved searches with materialized results.
+ *
+ * Searches without a query only match topics, so a topic write or review re-checks just that
+ * topic against all of them in one query (a CASE per saved search on the topic's row) and adds,
+ * updates or removes its row. Searches with a query are ranked against the whole corpus and are instead marked
+ * stale by any write of the user and rebuilt on their next open. Opening a fresh saved search
+ * is one paged read of saved_search_results.
+ */
+@Service
+@RequiredArgsConstructor
+public class SavedSearchService {
+
+    private static final double NEUTRAL_RELEVANCE = 0.5;
+    private static final int TOPIC_SNIPPET_LENGTH = 100;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchResultRepository savedSearchResultRepository;
+    private final TopicRepository topicRepository;
+    private final SearchService searchService;
+
+    @Value("${app.saved-search.max-per-user:50}")
+    private int maxPerUser;
+
+    // Searches with a query keep at most this many of their best results
+    @Value("${app.saved-search.max-results:500}")
+    private int maxResults;
+
+    // Create a saved search and build its results
+    @Transactional
+    public SavedSearchResponse createSavedSearch(SavedSearchRequest request, Long userId) {
+        if (savedSearchRepository.countByUserId(userId) >= maxPerUser) {
+            throw new BadRequestException("You can save at most " + maxPerUser + " searches");
+        }
+
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setUserId(userId);
+        savedSearch.setName(request.getName());
+        savedSearch.applyCriteria(request.getCriteria());
+        savedSearch = savedSearchRepository.save(savedSearch);
+
+        rebuild(savedSearch);
+        return toResponse(savedSearch);
+    }
+
+    // Get all saved searches of a user
+    public List<SavedSearchResponse> getAllSavedSearches(Long userId) {
+        return savedSearchRepository.findByUserIdOrderByNameAsc(userId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    // Change the name or criteria of a saved search (the results are rebuilt)
+    @Transactional
+    public SavedSearchResponse updateSavedSearch(Long id, SavedSearchRequest request, Long userId) {
+        SavedSearch savedSearch = findOwned(id, userId);
+        savedSearch.setName(request.getName());
+        savedSearch.applyCriteria(request.getCriteria());
+
+        rebuild(savedSearch);
+        return toResponse(savedSearch);
+    }
+
+    // Delete a saved search and its results
+    @Transactional
+    public void deleteSavedSearch(Long id, Long userId) {
+        SavedSearch savedSearch = findOwned(id, userId);
+        savedSearchResultRepository.deleteBySavedSearchId(savedSearch.getId());
+        savedSearchRepository.delete(savedSearch);
+    }
+
+    /**
+     * One page of a saved search's results, in its saved sort order.
+     * Stale results are rebuilt first; otherwise this is a single read of the materialized rows.
+     */
+    @Transactional
+    public SearchResponse openSavedSearch(Long id, Integer page, Integer size, Long userId) {
+        long startTime = System.currentTimeMillis();
+
+        if (page != null && page < 0) {
+            throw new BadRequestException("page must not be negative");
+        }
+        if (size != null && size <= 0) {
+            throw new BadRequestException("size must be positive");
+        }
+
+        SavedSearch savedSearch = findOwned(id, userId);
+        if (Boolean.TRUE.equals(savedSearch.getStale())) {
+            rebuild(savedSearch);
+        }
+
+        int pageNumber = page != null ? page : 0;
+        int pageSize = CursorCodec.pageSize(size);
+        Page<SavedSearchResult> rows = savedSearchResultRepository.findBySavedSearchId(savedSearch.getId(),
+                PageRequest.of(pageNumber, pageSize, sortOf(savedSearch)));
+
+        List<String> queryTokens = SearchTokenizer.tokenize(savedSearch.getQuery());
+        List<SearchResultItem> results = rows.getContent().stream()
+                .map(row -> toItem(row, queryTokens))
+                .collect(Collectors.toList());
+
+        return SearchResponse.builder()
+                .query(savedSearch.getQuery())
+                .totalResults(rows.getTotalElements())
+                .currentPage(pageNumber)
+                .totalPages(rows.getTotalPages())
+                .pageSize(pageSize)
+                .results(results)
+                .searchTimeMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    /**
+     * Apply a topic, note or project write to the saved searches of its owner
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onContentChanged(ContentChangedEvent event) {
+        savedSearchRepository.markQuerySearchesStale(event.getUserId());
+        if (event.getType() == ContentType.TOPIC) {
+            refreshTopic(event.getUserId(), event.getId(), event.isDeleted());
+        }
+    }
+
+    /**
+     * A review changes the reviewed topic's confidence and review dates
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onReviewRecorded(ReviewRecordedEvent event) {
+        savedSearchRepository.markQuerySearchesStale(event.getUserId());
+        refreshTopic(event.getUserId(), event.getTopicId(), false);
+    }
+
+    /**
+     * Due-for-review and at-risk results change with the date alone; rebuild them on their next open
+     */
+    @Scheduled(cron = "${app.saved-search.stale-cron:0 5 0 * * *}")
+    @Transactional
+    public void markTimeDependentStale() {
+        savedSearchRepository.markTimeDependentStale();
+    }
+
+    // Helper: Re-check one topic against the user's fresh saved searches without a query
+    private void refreshTopic(Long userId, Long topicId, boolean deleted) {
+        List<SavedSearch> savedSearches = savedSearchRepository.findByUserIdOrderByNameAsc(userId).stream()
+                .filter(savedSearch -> !savedSearch.hasQuery() && !Boolean.TRUE.equals(savedSearch.getStale()))
+                .collect(Collectors.toList());
+        if (savedSearches.isEmpty()) {
+            return;
+        }
+
+        Map<Long, SavedSearchResult> existing = savedSearchResultRepository
+                .findBySavedSearchIdInAndContentTypeAndContentId(
+                        savedSearches.stream().map(SavedSearch::getId).collect(Collectors.toList()),
+                        ContentType.TOPIC, topicId)
+                .stream()
+                .collect(Collectors.toMap(SavedSearchResult::getSavedSearchId, Function.identity()));
+        Topic topic = deleted ? null : topicRepository.findById(topicId).orElse(null);
+        List<Boolean> matches = topic == null
+                ? Collections.nCopies(savedSearches.size(), false)
+                : topicRepository.matchesEach(topicId, savedSearches.stream()
+                        .map(savedSearch -> TopicSpecifications.matching(userId, savedSearch.toRequest()))
+                        .collect(Collectors.toList()));
+
+        for (int i = 0; i < savedSearches.size(); i++) {
+            SavedSearch savedSearch = savedSearches.get(i);
+            SavedSearchResult row = existing.get(savedSearch.getId());
+
+            if (matches.get(i)) {
+                if (row == null) {
+                    row = new SavedSearchResult();
+                    row.setSavedSearchId(savedSearch.getId());
+                    savedSearch.setResultCount(savedSearch.getResultCount() + 1);
+                }
+                copyTopic(topic, row);
+                savedSearchResultRepository.save(row);
+            } else if (row != null) {
+                savedSearchResultRepository.delete(row);
+                savedSearch.setResultCount(savedSearch.getResultCount() - 1);
+            }
+        }
+        savedSearchRepository.saveAll(savedSearches);
+    }
+
+    // Helper: Replace the materialized results of a saved search with a fresh evaluation
+    private void rebuild(SavedSearch savedSearch) {
+        savedSearchResultRepository.deleteBySavedSearchId(savedSearch.getId());
+
+        SearchRequest request = savedSearch.toRequest();
+        List<SavedSearchResult> rows = new ArrayList<>();
+        if (savedSearch.hasQuery()) {
+            // Ranked search - keep the best maxResults
+            for (SearchResultItem item : searchService.topResults(request, savedSearch.getUserId(), maxResults).getResults()) {
+                rows.add(fromItem(savedSearch.getId(), item));
+            }
+        } else {
+            // Filters only - every matching topic, selected in SQL
+            for (Topic topic : topicRepository.findAll(TopicSpecifications.matching(savedSearch.getUserId(), request))) {
+                SavedSearchResult row = new SavedSearchResult();
+                row.setSavedSearchId(savedSearch.getId());
+                copyTopic(topic, row);
+                rows.add(row);
+            }
+        }
+        savedSearchResultRepository.saveAll(rows);
+
+        savedSearch.setStale(false);
+        savedSearch.setResultCount((long) rows.size());
+        savedSearch.setRefreshedAt(LocalDateTime.now());
+        savedSearchRepository.save(savedSearch);
+    }
+
+    private SavedSearch findOwned(Long id, Long userId) {
+        return savedSearchRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Saved search not found with id: " + id));
+    }
+
+    // Helper: Saved sort key and direction as a sort on the result columns, ordered exactly like search results
+    // (missing values last ascending and first descending, ties by type and id ascending)
+    private Sort sortOf(SavedSearch savedSearch) {
+        String property;
+        switch (savedSearch.getSortBy() != null ? savedSearch.getSortBy().toLowerCase() : "relevance") {
+            case "name":
+                property = "title";
+                break;
+            case "learned_date":
+                property = "learnedDate";
+                break;
+            case "confidence":
+                property = "confidenceLevel";
+                break;
+            case "last_reviewed":
+                property = "lastReviewed";
+                break;
+            default:
+                property = "relevanceScore";
+                break;
+        }
+
+        Sort.Order order = "asc".equalsIgnoreCase(savedSearch.getSortOrder())
+                ? Sort.Order.asc(property).nullsLast()
+                : Sort.Order.desc(property).nullsFirst();
+        return Sort.by(order).and(Sort.by("contentType", "contentId"));
+    }
+
+    private void copyTopic(Topic topic, SavedSearchResult row) {
+        row.setContentType(ContentType.TOPIC);
+        row.setContentId(topic.getId());
+        row.setTitle(topic.getName());
+        row.setSnippet(SnippetBuilder.build(Collections.singletonList(topic.getName()),
+                Collections.emptyList(), TOPIC_SNIPPET_LENGTH).getText());
+        row.setCategory(topic.getCategory());
+        row.setTags(topic.getTags());
+        row.setConfidenceLevel(topic.getConfidenceLevel());
+        row.setLearnedDate(topic.getLearnedDate());
+        row.setLastReviewed(topic.getLastReviewed());
+        row.setRelevanceScore(NEUTRAL_RELEVANCE);
+    }
+
+    private SavedSearchResult fromItem(Long savedSearchId, SearchResultItem item) {
+        SavedSearchResult row = new SavedSearchResult();
+        row.setSavedSearchId(savedSearchId);
+        row.setContentType(ContentType.valueOf(item.getType()));
+        row.setContentId(item.getId());
+        row.setTitle(item.getTitle());
+        row.setSnippet(item.getSnippet());
+        row.setCategory(item.getCategory());
+        row.setTags(item.getTags() != null ? String.join(",", item.getTags()) : null);
+        row.setConfidenceLevel(item.getConfidenceLevel());
+        row.setLearnedDate(item.getLearnedDate());
+        row.setLastReviewed(item.getLastReviewed());
+        row.setRelevanceScore(item.getRelevanceScore());
+        return row;
+    }
+
+    // Helper: Result item of a materialized row; highlights are recomputed on the stored snippet
+    private SearchResultItem toItem(SavedSearchResult row, List<String> queryTokens) {
+        SearchResultItem item = SearchResultItem.builder()
+                .type(row.getContentType().name())
+                .id(row.getContentId())
+                .title(row.getTitle())
+                .snippet(row.getSnippet())
+                .category(row.getCategory())
+                .tags(parseTags(row.getTags()))
+                .confidenceLevel(row.getConfidenceLevel())
+                .learnedDate(row.getLearnedDate())
+                .lastReviewed(row.getLastReviewed())
+                .relevanceScore(row.getRelevanceScore())
+                .build();
+
+        if (!queryTokens.isEmpty() && row.getSnippet() != null) {
+            Snippet snippet = SnippetBuilder.build(Collections.singletonList(row.getSnippet()),
+                    queryTokens, row.getSnippet().length());
+            item.setHighlights(snippet.getHighlights().stream()
+                    .map(span -> new HighlightRange(span.getStart(), span.getEnd()))
+                    .collect(Collectors.toList()));
+        }
+        return item;
+    }
+
+    private List<String> parseTags(String tags) {
+        if (tags == null || tags.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(tags.split(","))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private SavedSearchResponse toResponse(SavedSearch savedSearch) {
+        return SavedSearchResponse.builder()
+                .id(savedSearch.getId())
+                .name(savedSearch.getName())
+                .criteria(savedSearch.toRequest())
+                .resultCount(savedSearch.getResultCount())
+                .refreshedAt(savedSearch.getRefreshedAt())
+                .createdAt(savedSearch.getCreatedAt())
+                .build();
+    }
+}
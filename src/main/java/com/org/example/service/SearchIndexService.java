@@ -0,0 +1,201 @@
+package com.org.example.service;
+
+import com.org.example.entities.Note;
+import com.org.example.entities.Project;
+import com.org.example.entities.Topic;
+import com.org.example.enums.ContentType;
+import com.org.example.event.ContentChangedEvent;
+import com.org.example.repository.NoteRepository;
+import com.org.example.repository.ProjectRepository;
+import com.org.example.repository.TopicRepository;
+import com.org.example.search.SearchDocKey;
+import com.org.example.search.SearchText;
+import com.org.example.search.SearchTokenizer;
+import com.org.example.search.UserSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private final TopicRepository topicRepository;
+    private final NoteRepository noteRepository;
+    private final ProjectRepository projectRepository;
+
+    @Value("${app.search.index.idle-timeout-minutes:30}")
+    private long idleTimeoutMinutes;
+
+    // One index per user, built lazily on the user's first search and dropped when idle
+    private final Map<Long, UserSearchIndex> indexes = new ConcurrentHashMap<>();
+
+    // Changes committed while a user's index is being built, replayed onto it afterwards
+    private final Map<Long, List<ContentChangedEvent>> pendingChanges = new ConcurrentHashMap<>();
+
+    /**
+     * Find the documents of a user matching every token of the query, with their BM25 score
+     */
+    public Map<SearchDocKey, Double> search(Long userId, String query) {
+        return getIndex(userId).search(SearchTokenizer.tokenize(query));
+    }
+
+    /**
+     * Same, but query tokens may also match topic names, tags and note titles within a small edit distance
+     */
+    public Map<SearchDocKey, Double> searchFuzzy(Long userId, String query) {
+        return getIndex(userId).search(SearchTokenizer.tokenize(query), true);
+    }
+
+    /**
+     * Keep already-built indexes in sync with topic, note and project writes.
+     * Runs after commit so a rolled back write never reaches the index. A change that commits
+     * while the user's index is being built is buffered and replayed onto it once it is built.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)  // Before the search cache is invalidated
+    public void onContentChanged(ContentChangedEvent event) {
+        Long userId = event.getUserId();
+        UserSearchIndex index = indexes.get(userId);
+        if (index == null) {
+            List<ContentChangedEvent> pending = pendingChanges.get(userId);
+            if (pending != null) {
+                synchronized (pending) {
+                    if (pendingChanges.get(userId) == pending) {
+                        pending.add(event);
+                        return;
+                    }
+                }
+            }
+            index = indexes.get(userId);
+            if (index == null) {
+                return; // Not built yet - will pick up the change when it is
+            }
+        }
+        apply(index, event);
+    }
+
+    /**
+     * Drop indexes nobody has searched for a while; they are rebuilt from the database on next use
+     */
+    @Scheduled(fixedDelayString = "${app.search.index.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMinutes * 60_000;
+        indexes.entrySet().removeIf(entry -> entry.getValue().getLastAccessMillis() < cutoff);
+    }
+
+    // Helper: Get the user's index, building it from the database on first use
+    private UserSearchIndex getIndex(Long userId) {
+        UserSearchIndex index = indexes.get(userId);
+        if (index != null) {
+            return index;
+        }
+        index = indexes.computeIfAbsent(userId, this::buildIndex);
+        replayPending(userId, index);
+        return index;
+    }
+
+    // Helper: Apply the changes buffered during the build; later changes go straight to the index
+    private void replayPending(Long userId, UserSearchIndex index) {
+        List<ContentChangedEvent> pending = pendingChanges.get(userId);
+        if (pending == null) {
+            return;
+        }
+        synchronized (pending) {
+            for (ContentChangedEvent event : pending) {
+                apply(index, event);
+            }
+            pending.clear();
+            pendingChanges.remove(userId, pending);
+        }
+    }
+
+    // Helper: Load every topic, note and project of a user into a fresh index
+    private UserSearchIndex buildIndex(Long userId) {
+        // Buffer changes from here on: the rows read below may predate them
+        List<ContentChangedEvent> pending = new ArrayList<>();
+        pendingChanges.put(userId, pending);
+
+        try {
+            UserSearchIndex index = new UserSearchIndex();
+
+            for (Topic topic : topicRepository.findByUserId(userId)) {
+                index.put(new SearchDocKey(ContentType.TOPIC, topic.getId()), tokenize(topic), fuzzyTerms(topic));
+            }
+            for (Note note : noteRepository.findByUserId(userId)) {
+                index.put(new SearchDocKey(ContentType.NOTE, note.getId()), tokenize(note), fuzzyTerms(note));
+            }
+            for (Project project : projectRepository.findByUserId(userId)) {
+                index.put(new SearchDocKey(ContentType.PROJECT, project.getId()), tokenize(project));
+            }
+
+            return index;
+        } catch (RuntimeException e) {
+            pendingChanges.remove(userId, pending);
+            throw e;
+        }
+    }
+
+    // Helper: Re-read one changed document and put it in (or remove it from) the index
+    private void apply(UserSearchIndex index, ContentChangedEvent event) {
+        SearchDocKey key = new SearchDocKey(event.getType(), event.getId());
+        if (event.isDeleted()) {
+            index.remove(key);
+            if (event.getType() == ContentType.TOPIC) {
+                // The topic's notes stay in the database but are no longer searchable
+                for (Note note : noteRepository.findByTopicId(event.getId())) {
+                    index.remove(new SearchDocKey(ContentType.NOTE, note.getId()));
+                }
+            }
+            return;
+        }
+
+        switch (event.getType()) {
+            case TOPIC:
+                topicRepository.findById(event.getId()).ifPresent(topic -> index.put(key, tokenize(topic), fuzzyTerms(topic)));
+                break;
+            case NOTE:
+                noteRepository.findById(event.getId()).ifPresent(note -> index.put(key, tokenize(note), fuzzyTerms(note)));
+                break;
+            case PROJECT:
+                projectRepository.findById(event.getId()).ifPresent(project -> index.put(key, tokenize(project)));
+                break;
+        }
+    }
+
+    // Helper: Searchable tokens of a topic (name, category, tags)
+    private List<String> tokenize(Topic topic) {
+        return SearchText.tokens(topic.getSearchText() != null ? topic.getSearchText() : topic.buildSearchText());
+    }
+
+    // Helper: Searchable tokens of a note (title, content, code snippet, tags)
+    private List<String> tokenize(Note note) {
+        return SearchText.tokens(note.getSearchText() != null ? note.getSearchText() : note.buildSearchText());
+    }
+
+    // Helper: Searchable tokens of a project (name, description)
+    private List<String> tokenize(Project project) {
+        return SearchText.tokens(project.getSearchText() != null ? project.getSearchText() : project.buildSearchText());
+    }
+
+    // Helper: Terms of a topic typos are corrected to (name and tags)
+    private List<String> fuzzyTerms(Topic topic) {
+        List<String> terms = new ArrayList<>(SearchTokenizer.tokenize(topic.getName()));
+        terms.addAll(SearchTokenizer.tokenize(topic.getTags()));
+        return terms;
+    }
+
+    // Helper: Terms of a note typos are corrected to (title)
+    private List<String> fuzzyTerms(Note note) {
+        return SearchTokenizer.tokenize(note.getTitle());
+    }
+}
@@ -0,0 +1,93 @@
+package com.org.example.service;
+
+import com.org.example.enums.ContentType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters of the search pipeline, published with percentile histograms so
+ * p95/p99 can be computed per phase (and per source) from /actuator/prometheus.
+ *
+ * search.phase       timer, tags phase (lookup, tag_filter, fetch, filter, merge, paginate) and source
+ * search.requests    timer of whole requests (cache hits included), tag engine
+ * search.candidates  distribution of the candidates a source fed in, tag source
+ * search.results     distribution of the total results of a request
+ */
+@Component
+public class SearchMetrics {
+
+    private static final String ALL_SOURCES = "all";
+
+    private final MeterRegistry registry;
+    private final String engine;
+
+    private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
+    private final Map<ContentType, DistributionSummary> candidateSummaries = new ConcurrentHashMap<>();
+    private final Timer requestTimer;
+    private final DistributionSummary resultSummary;
+
+    public SearchMetrics(MeterRegistry registry, @Value("${app.search.engine:index}") String engine) {
+        this.registry = registry;
+        this.engine = engine.toLowerCase();
+        this.requestTimer = Timer.builder("search.requests")
+                .description("Search requests, end to end")
+                .tag("engine", this.engine)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.resultSummary = DistributionSummary.builder("search.results")
+                .description("Results matching a search (all pages)")
+                .baseUnit("results")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Run a whole search request and record its latency
+     */
+    public <T> T timeRequest(Supplier<T> request) {
+        return requestTimer.record(request);
+    }
+
+    /**
+     * Run one phase that covers all sources and record its latency
+     */
+    public <T> T timePhase(String phase, Supplier<T> work) {
+        return phaseTimer(phase, ALL_SOURCES).record(work);
+    }
+
+    public void recordPhase(String phase, ContentType source, long nanos) {
+        phaseTimer(phase, source.name().toLowerCase()).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCandidates(ContentType source, long count) {
+        candidateSummaries.computeIfAbsent(source, type -> DistributionSummary.builder("search.candidates")
+                        .description("Candidates a search source fed to the filters")
+                        .baseUnit("candidates")
+                        .tag("source", type.name().toLowerCase())
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(count);
+    }
+
+    public void recordResults(long totalResults) {
+        resultSummary.record(totalResults);
+    }
+
+    private Timer phaseTimer(String phase, String source) {
+        return phaseTimers.computeIfAbsent(phase + "#" + source, key -> Timer.builder("search.phase")
+                .description("Time spent in one phase of a search")
+                .tag("engine", engine)
+                .tag("phase", phase)
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+}
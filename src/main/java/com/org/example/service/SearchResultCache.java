@@ -0,0 +1,191 @@
+package com.org.example.service;
+
+import com.org.example.dto.SearchCacheStats;
+import com.org.example.dto.SearchRequest;
+import com.org.example.dto.SearchResponse;
+import com.org.example.event.ContentChangedEvent;
+import com.org.example.event.ReviewRecordedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of search responses, bounded by entry count and age.
+ *
+ * Keys are (user, user's data version, normalized request). Any topic, note, project or
+ * review write bumps the user's version after commit, so older entries are never read
+ * again and simply age out; nothing has to be scanned on invalidation. The bump runs after
+ * the search indexes have applied the write (see {@link #INVALIDATION_ORDER}).
+ * The counters are published as search.cache.* meters and on /actuator/searchcache.
+ */
+@Component
+public class SearchResultCache implements MeterBinder {
+
+    /**
+     * Listener order of the version bump. Listeners updating a search index run before it
+     * ({@link Ordered#HIGHEST_PRECEDENCE}); otherwise a search between the bump and the index
+     * update would cache pre-write results under the new version.
+     */
+    public static final int INVALIDATION_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<String, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    public SearchResultCache(@Value("${app.search.cache.enabled:true}") boolean enabled,
+                             @Value("${app.search.cache.max-entries:1000}") int maxEntries,
+                             @Value("${app.search.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > SearchResultCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    /**
+     * The cached response for this request, or the freshly computed one (which is then cached)
+     */
+    public SearchResponse get(Long userId, SearchRequest request, Supplier<SearchResponse> search) {
+        if (!enabled) {
+            return search.get();
+        }
+
+        // Read the version first: a write committing meanwhile makes this entry unreachable, never stale
+        String key = userId + "#" + versionOf(userId).get() + "#" + normalize(request);
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (System.currentTimeMillis() - entry.createdAt <= ttlMillis) {
+                hits.incrementAndGet();
+                return entry.response;
+            }
+            if (entries.remove(key) != null) {
+                expirations.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+        SearchResponse response = search.get();
+        // A partial response (a source timed out) should be retried, not replayed
+        if (!Boolean.TRUE.equals(response.getPartialResults())) {
+            entries.put(key, new Entry(response, System.currentTimeMillis()));
+        }
+        return response;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(INVALIDATION_ORDER)
+    public void onContentChanged(ContentChangedEvent event) {
+        versionOf(event.getUserId()).incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(INVALIDATION_ORDER)
+    public void onReviewRecorded(ReviewRecordedEvent event) {
+        versionOf(event.getUserId()).incrementAndGet();
+    }
+
+    public SearchCacheStats getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long lookups = hitCount + missCount;
+
+        return SearchCacheStats.builder()
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRate(lookups > 0 ? (double) hitCount / lookups : 0.0)
+                .evictions(evictions.get())
+                .expirations(expirations.get())
+                .size(entries.size())
+                .maxEntries(maxEntries)
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("search.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("search.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("search.cache.removals", evictions, AtomicLong::get)
+                .tag("cause", "eviction").register(registry);
+        FunctionCounter.builder("search.cache.removals", expirations, AtomicLong::get)
+                .tag("cause", "expiration").register(registry);
+        Gauge.builder("search.cache.size", entries, Map::size).register(registry);
+    }
+
+    private AtomicLong versionOf(Long userId) {
+        return versions.computeIfAbsent(userId, id -> new AtomicLong());
+    }
+
+    // Helper: Canonical form of a request - defaults filled in, list filters sorted, query whitespace collapsed
+    private String normalize(SearchRequest request) {
+        String query = request.getQuery() != null ? request.getQuery().trim().replaceAll("\\s+", " ") : "";
+        String cursor = request.getCursor();
+
+        return String.join("|",
+                query,
+                Boolean.toString(Boolean.TRUE.equals(request.getFuzzy())),
+                sorted(request.getCategories()),
+                sorted(request.getTags()),
+                String.valueOf(request.getMinConfidence()),
+                String.valueOf(request.getMaxConfidence()),
+                String.valueOf(request.getLearnedAfter()),
+                String.valueOf(request.getLearnedBefore()),
+                Boolean.toString(Boolean.TRUE.equals(request.getOnlyDueForReview())),
+                Boolean.toString(Boolean.TRUE.equals(request.getOnlyAtRisk())),
+                request.getSortBy() != null ? request.getSortBy().toLowerCase() : "relevance",
+                "asc".equalsIgnoreCase(request.getSortOrder()) ? "asc" : "desc",
+                // The page number is ignored when a cursor is given
+                cursor != null ? "" : String.valueOf(request.getPage() != null ? request.getPage() : 0),
+                String.valueOf(request.getSize() != null ? request.getSize() : 20),
+                cursor != null ? cursor : "");
+    }
+
+    private String sorted(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        List<String> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return String.join(",", copy);
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final SearchResponse response;
+        private final long createdAt;
+    }
+}
@@ -1,23 +1,51 @@
 package com.org.example.service;
 
 
+import com.org.example.dto.HighlightRange;
 import com.org.example.dto.SearchRequest;
 import com.org.example.dto.SearchResponse;
 import com.org.example.dto.SearchResultItem;
-import com.org.example.entities.Note;
 import com.org.example.entities.Project;
 import com.org.example.entities.Topic;
+import com.org.example.enums.ContentType;
+import com.org.example.exception.BadRequestException;
 import com.org.example.repository.NoteRepository;
+import com.org.example.repository.NoteSearchRow;
 import com.org.example.repository.ProjectRepository;
 import com.org.example.repository.TopicRepository;
+import com.org.example.repository.TopicSpecifications;
+import com.org.example.search.SearchDocKey;
+import com.org.example.search.SearchText;
+import com.org.example.search.SearchTokenizer;
+import com.org.example.search.Snippet;
+import com.org.example.search.SnippetBuilder;
+import com.org.example.search.SortedMerge;
+import com.org.example.search.TopKSelector;
+import com.org.example.util.CursorCodec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,252 +55,445 @@ public class SearchService {
     private final TopicRepository topicRepository;
     private final NoteRepository noteRepository;
     private final ProjectRepository projectRepository;
+    private final SearchIndexService searchIndexService;
+    private final FullTextSearchService fullTextSearchService;
+    private final TagService tagService;
+    private final SearchResultCache searchResultCache;
+    private final SearchSourceExecutor searchExecutor;
+    private final SearchMetrics metrics;
+    private final Optional<LuceneSearchService> luceneSearchService;  // Only present when app.search.engine=lucene
+
+    // "index" (in-memory inverted index, default), "like" (match in the database),
+    // "fulltext" (MySQL FULLTEXT indexes on notes and projects) or "lucene" (embedded Lucene index)
+    @Value("${app.search.engine:index}")
+    private String searchEngine;
+
+    // "sequential" (default) or "parallel" (topic, note and project sources run concurrently on the search executor)
+    @Value("${app.search.execution:sequential}")
+    private String executionMode;
+
+    // Parallel mode only: sources not done by then are dropped and the response is flagged partial
+    @Value("${app.search.parallel.source-timeout-ms:2000}")
+    private long sourceTimeoutMs;
 
     /**
-     * Global search across topics, notes, and projects
+     * Global search across topics, notes, and projects.
+     * Repeated identical requests are answered from the search result cache until the user's data changes.
      */
     public SearchResponse search(SearchRequest request, Long userId) {
         long startTime = System.currentTimeMillis();
 
-        // Get all results
-        List<SearchResultItem> allResults = new ArrayList<>();
-
-        // Search topics
-        allResults.addAll(searchTopics(request, userId));
-
-        // Search notes
-        if (request.getQuery() != null && !request.getQuery().isEmpty()) {
-            allResults.addAll(searchNotes(request, userId));
+        if (request.getPage() != null && request.getPage() < 0) {
+            throw new BadRequestException("page must not be negative");
+        }
+        if (request.getSize() != null && request.getSize() <= 0) {
+            throw new BadRequestException("size must be positive");
         }
 
-        // Search projects
-        if (request.getQuery() != null && !request.getQuery().isEmpty()) {
-            allResults.addAll(searchProjects(request, userId));
+        // Page sizes are capped like every other list endpoint; the kept window must still fit an int
+        int size = CursorCodec.pageSize(request.getSize());
+        long window = ((long) (request.getPage() != null ? request.getPage() : 0) + 1) * size;
+        if (window > Integer.MAX_VALUE) {
+            throw new BadRequestException("page is too large for a page size of " + size);
         }
 
-        // Apply filters
-        allResults = applyFilters(allResults, request);
+        SearchResponse response = metrics.timeRequest(
+                () -> searchResultCache.get(userId, request, () -> executeSearch(request, userId, size)));
+
+        return SearchResponse.builder()
+                .query(request.getQuery())
+                .totalResults(response.getTotalResults())
+                .currentPage(response.getCurrentPage())
+                .totalPages(response.getTotalPages())
+                .pageSize(response.getPageSize())
+                .results(response.getResults())
+                .nextCursor(response.getNextCursor())
+                .partialResults(response.getPartialResults())
+                .searchTimeMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    /**
+     * The best {@code limit} results of a search in one page, bypassing the page size cap and the
+     * result cache (used to materialize saved searches)
+     */
+    public SearchResponse topResults(SearchRequest request, Long userId, int limit) {
+        request.setPage(0);
+        request.setCursor(null);
+        return executeSearch(request, userId, limit);
+    }
+
+    /**
+     * Run a search against the configured engine.
+     *
+     * Results are streamed through the filters into a bounded heap that keeps only the
+     * first (page + 1) * size in sort order, so no full result list is built or sorted.
+     * With a cursor only the {@code size} results following it are kept, so deep pages
+     * cost the same as the first one. Snippets are only generated for the returned page.
+     */
+    private SearchResponse executeSearch(SearchRequest request, Long userId, int size) {
+        long startTime = System.currentTimeMillis();
 
-        // Sort results
-        allResults = sortResults(allResults, request);
+        Comparator<SearchResultItem> order = resultOrder(request);
+        SearchResultItem after = request.getCursor() != null ? decodeCursor(request) : null;
 
         // Calculate pagination
-        int page = request.getPage() != null ? request.getPage() : 0;
-        int size = request.getSize() != null ? request.getSize() : 20;
-        int totalResults = allResults.size();
+        int page = after == null && request.getPage() != null ? request.getPage() : 0;
+
+        // Tag filters on notes are answered by the note_tags index (topics are filtered in SQL)
+        Set<Long> taggedNoteIds = request.getTags() != null && !request.getTags().isEmpty()
+                ? metrics.timePhase("tag_filter", () -> tagService.getNoteIdsWithAnyTag(userId, request.getTags()))
+                : null;
+
+        // Every source feeds the candidates of one content type; they do not depend on each other
+        Map<ContentType, SearchSource> sources = new EnumMap<>(ContentType.class);
+        String query = request.getQuery();
+        if (query == null || query.isEmpty()) {
+            // No query - the filters select the topics in SQL
+            sources.put(ContentType.TOPIC, collector -> topicRepository.findAll(TopicSpecifications.matching(userId, request))
+                    .forEach(topic -> collector.accept(toCandidate(topic, Collections.emptyMap()))));
+        } else if ("like".equalsIgnoreCase(searchEngine)) {
+            // Match the stored search text in the database - one query per content type, no ranking
+            String keyword = SearchText.normalizeQuery(query);
+            if (!keyword.isEmpty()) {
+                sources.put(ContentType.TOPIC, collector -> topicRepository.findAll(TopicSpecifications.matching(userId, request)
+                                .and(TopicSpecifications.searchTextContains(keyword)))
+                        .forEach(topic -> collector.accept(toCandidate(topic, Collections.emptyMap()))));
+                sources.put(ContentType.NOTE, collector -> noteRepository.searchRowsByKeyword(userId, keyword)
+                        .forEach(row -> collector.accept(toCandidate(row, Collections.emptyMap()))));
+                sources.put(ContentType.PROJECT, collector -> projectRepository.searchByKeyword(userId, keyword)
+                        .forEach(project -> collector.accept(toCandidate(project, Collections.emptyMap()))));
+            }
+        } else if (luceneSearchService.isPresent()) {
+            // Embedded Lucene index (analyzers, phrase/fuzzy syntax, field boosts)
+            Map<SearchDocKey, Double> hits = metrics.timePhase("lookup", () -> {
+                Map<SearchDocKey, Double> exactHits = normalizeScores(luceneSearchService.get().search(userId, query));
+                return Boolean.TRUE.equals(request.getFuzzy())
+                        ? mergeFuzzyHits(exactHits, normalizeScores(luceneSearchService.get().searchFuzzy(userId, query)))
+                        : exactHits;
+            });
+
+            sources.put(ContentType.TOPIC, collector -> searchTopics(userId, request, hits, collector));
+            sources.put(ContentType.NOTE, collector -> searchNotes(userId, hits, collector));
+            sources.put(ContentType.PROJECT, collector -> searchProjects(userId, hits, collector));
+        } else if ("fulltext".equalsIgnoreCase(searchEngine)) {
+            // Notes and projects via MySQL FULLTEXT; topic fields are short, so LIKE is enough there
+            Map<SearchDocKey, Double> hits = metrics.timePhase("lookup",
+                    () -> normalizeScores(fullTextSearchService.search(userId, query)));
+
+            String keyword = SearchText.normalizeQuery(query);
+            if (!keyword.isEmpty()) {
+                sources.put(ContentType.TOPIC, collector -> topicRepository.findAll(TopicSpecifications.matching(userId, request)
+                                .and(TopicSpecifications.searchTextContains(keyword)))
+                        .forEach(topic -> collector.accept(toCandidate(topic, hits))));
+            }
+            sources.put(ContentType.NOTE, collector -> searchNotes(userId, hits, collector));
+            sources.put(ContentType.PROJECT, collector -> searchProjects(userId, hits, collector));
+        } else {
+            // Look up and score matching documents in the user's inverted index
+            Map<SearchDocKey, Double> hits = metrics.timePhase("lookup", () -> {
+                Map<SearchDocKey, Double> exactHits = normalizeScores(searchIndexService.search(userId, query));
+                return Boolean.TRUE.equals(request.getFuzzy())
+                        ? mergeFuzzyHits(exactHits, normalizeScores(searchIndexService.searchFuzzy(userId, query)))
+                        : exactHits;
+            });
+
+            sources.put(ContentType.TOPIC, collector -> searchTopics(userId, request, hits, collector));
+            sources.put(ContentType.NOTE, collector -> searchNotes(userId, hits, collector));
+            sources.put(ContentType.PROJECT, collector -> searchProjects(userId, hits, collector));
+        }
+
+        // Each source keeps its own top window; the windows are k-way merged afterwards
+        int window = Math.multiplyExact(page + 1, size);
+        Function<ContentType, SourceResult> run = type ->
+                collect(type, sources.get(type), request, after, order, window, taggedNoteIds);
+        List<SourceResult> results = "parallel".equalsIgnoreCase(executionMode) && sources.size() > 1
+                ? runConcurrently(sources.keySet(), run)
+                : sources.keySet().stream().map(run).collect(Collectors.toList());
+        boolean partialResults = results.size() < sources.size();
+
+        long totalResults = results.stream().mapToLong(SourceResult::getMatches).sum();
+        long offered = results.stream().mapToLong(SourceResult::getOffered).sum();
         int totalPages = (int) Math.ceil((double) totalResults / size);
+        metrics.recordResults(totalResults);
 
-        // Paginate
-        int start = page * size;
-        int end = Math.min(start + size, totalResults);
-        List<SearchResultItem> paginatedResults = start < totalResults
-                ? allResults.subList(start, end)
-                : new ArrayList<>();
+        // Paginate (the merged window holds everything up to the end of the requested page)
+        List<Candidate> ranked = metrics.timePhase("merge", () -> SortedMerge.merge(
+                results.stream().map(SourceResult::getRanked).collect(Collectors.toList()),
+                Comparator.comparing(Candidate::getItem, order), window));
+        List<SearchResultItem> paginatedResults = metrics.timePhase("paginate",
+                () -> paginate(ranked, page * size, query));
+
+        // Anything offered beyond the kept window means another page exists
+        String nextCursor = offered > window && !paginatedResults.isEmpty()
+                ? encodeCursor(paginatedResults.get(paginatedResults.size() - 1), request)
+                : null;
 
         long endTime = System.currentTimeMillis();
 
         return SearchResponse.builder()
                 .query(request.getQuery())
-                .totalResults((long) totalResults)
+                .totalResults(totalResults)
                 .currentPage(page)
                 .totalPages(totalPages)
                 .pageSize(size)
                 .results(paginatedResults)
+                .nextCursor(nextCursor)
+                .partialResults(partialResults)
                 .searchTimeMs(endTime - startTime)
                 .build();
     }
 
     /**
-     * Search in topics
+     * Run one source through the filters into its own bounded heap.
+     * Time spent in the collector is recorded as the filter phase, the rest of the source's time as its fetch phase.
      */
-    private List<SearchResultItem> searchTopics(SearchRequest request, Long userId) {
-        List<Topic> topics = topicRepository.findByUserId(userId);
-
-        return topics.stream()
-                .filter(topic -> matchesQuery(topic, request.getQuery()))
-                .map(topic -> SearchResultItem.builder()
-                        .type("TOPIC")
-                        .id(topic.getId())
-                        .title(topic.getName())
-                        .snippet(createSnippet(topic.getName(), request.getQuery(), 100))
-                        .category(topic.getCategory())
-                        .tags(parseTags(topic.getTags()))
-                        .confidenceLevel(topic.getConfidenceLevel())
-                        .learnedDate(topic.getLearnedDate())
-                        .lastReviewed(topic.getLastReviewed())
-                        .relevanceScore(calculateRelevance(topic.getName(), request.getQuery()))
-                        .build())
-                .collect(Collectors.toList());
+    private SourceResult collect(ContentType type, SearchSource source, SearchRequest request, SearchResultItem after,
+                                 Comparator<SearchResultItem> order, int window, Set<Long> taggedNoteIds) {
+        AtomicLong candidates = new AtomicLong();
+        AtomicLong matches = new AtomicLong();
+        AtomicLong filterNanos = new AtomicLong();
+        TopKSelector<Candidate> topK = new TopKSelector<>(window, Comparator.comparing(Candidate::getItem, order));
+
+        long start = System.nanoTime();
+        source.feed(candidate -> {
+            long filterStart = System.nanoTime();
+            candidates.incrementAndGet();
+            if (matchesFilters(candidate.getItem(), request, taggedNoteIds)) {
+                matches.incrementAndGet();
+                if (after == null || order.compare(candidate.getItem(), after) > 0) {
+                    topK.offer(candidate);
+                }
+            }
+            filterNanos.addAndGet(System.nanoTime() - filterStart);
+        });
+        long elapsed = System.nanoTime() - start;
+
+        metrics.recordPhase("fetch", type, elapsed - filterNanos.get());
+        metrics.recordPhase("filter", type, filterNanos.get());
+        metrics.recordCandidates(type, candidates.get());
+
+        return new SourceResult(topK.toSortedList(), matches.get(), topK.getOfferedCount());
     }
 
     /**
-     * Search in notes
+     * Fill in tags and snippets of the merged results from {@code from} on - the returned page
      */
-    private List<SearchResultItem> searchNotes(SearchRequest request, Long userId) {
-        List<Topic> userTopics = topicRepository.findByUserId(userId);
-        List<SearchResultItem> noteResults = new ArrayList<>();
-
-        for (Topic topic : userTopics) {
-            List<Note> notes = noteRepository.findByTopicId(topic.getId());
-
-            notes.stream()
-                    .filter(note -> matchesQuery(note, request.getQuery()))
-                    .forEach(note -> {
-                        String searchText = note.getTitle() + " " + note.getContent() + " " + note.getCodeSnippet();
-
-                        noteResults.add(SearchResultItem.builder()
-                                .type("NOTE")
-                                .id(note.getId())
-                                .title(note.getTitle() != null ? note.getTitle() : "Untitled Note")
-                                .snippet(createSnippet(searchText, request.getQuery(), 150))
-                                .category(topic.getCategory())
-                                .tags(parseTags(note.getTags()))
-                                .confidenceLevel(topic.getConfidenceLevel())
-                                .relevanceScore(calculateRelevance(searchText, request.getQuery()))
-                                .build());
-                    });
+    private List<SearchResultItem> paginate(List<Candidate> ranked, int from, String query) {
+        List<String> queryTokens = SearchTokenizer.tokenize(query);
+        List<SearchResultItem> paginatedResults = new ArrayList<>();
+        for (int i = from; i < ranked.size(); i++) {
+            Candidate candidate = ranked.get(i);
+            SearchResultItem item = candidate.getItem();
+            if (candidate.getTags() != null) {
+                item.setTags(parseTags(candidate.getTags()));
+            }
+            applySnippet(item, candidate, queryTokens);
+            paginatedResults.add(item);
         }
-
-        return noteResults;
+        return paginatedResults;
     }
 
     /**
-     * Search in projects
+     * Run the sources on the search executor. Sources still running when the timeout
+     * (shared, counted from submission) expires are cancelled and left out of the results.
      */
-    private List<SearchResultItem> searchProjects(SearchRequest request, Long userId) {
-        List<Project> projects = projectRepository.findByUserId(userId);
-
-        return projects.stream()
-                .filter(project -> matchesQuery(project, request.getQuery()))
-                .map(project -> {
-                    String searchText = project.getName() + " " + project.getDescription();
-
-                    return SearchResultItem.builder()
-                            .type("PROJECT")
-                            .id(project.getId())
-                            .title(project.getName())
-                            .snippet(createSnippet(searchText, request.getQuery(), 150))
-                            .relevanceScore(calculateRelevance(searchText, request.getQuery()))
-                            .build();
-                })
+    private List<SourceResult> runConcurrently(Set<ContentType> sources, Function<ContentType, SourceResult> run) {
+        List<Future<SourceResult>> futures = sources.stream()
+                .map(type -> searchExecutor.submit(() -> run.apply(type)))
                 .collect(Collectors.toList());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sourceTimeoutMs);
+        List<SourceResult> results = new ArrayList<>();
+        for (Future<SourceResult> future : futures) {
+            try {
+                results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException("Search source failed", e.getCause());
+            }
+        }
+        return results;
     }
 
     /**
-     * Check if topic matches query
+     * Search in topics (only the ids the index matched and that pass the filters are loaded)
      */
-    private boolean matchesQuery(Topic topic, String query) {
-        if (query == null || query.isEmpty()) {
-            return true;
+    private void searchTopics(Long userId, SearchRequest request, Map<SearchDocKey, Double> hits,
+                              Consumer<Candidate> collector) {
+        List<Long> topicIds = idsOfType(hits, ContentType.TOPIC);
+        if (topicIds.isEmpty()) {
+            return;
         }
 
-        String lowerQuery = query.toLowerCase();
-        String searchText = (topic.getName() + " " +
-                (topic.getCategory() != null ? topic.getCategory() : "") + " " +
-                (topic.getTags() != null ? topic.getTags() : "")).toLowerCase();
+        topicRepository.findAll(TopicSpecifications.matching(userId, request)
+                        .and(TopicSpecifications.idIn(topicIds)))
+                .forEach(topic -> collector.accept(toCandidate(topic, hits)));
+    }
+
+    /**
+     * Convert a topic to a search candidate
+     */
+    private Candidate toCandidate(Topic topic, Map<SearchDocKey, Double> hits) {
+        SearchResultItem item = SearchResultItem.builder()
+                .type("TOPIC")
+                .id(topic.getId())
+                .title(topic.getName())
+                .category(topic.getCategory())
+                .confidenceLevel(topic.getConfidenceLevel())
+                .learnedDate(topic.getLearnedDate())
+                .lastReviewed(topic.getLastReviewed())
+                .relevanceScore(relevanceOf(hits, ContentType.TOPIC, topic.getId()))
+                .build();
 
-        return searchText.contains(lowerQuery);
+        return new Candidate(item, topic.getTags() != null ? topic.getTags() : "",
+                Collections.singletonList(topic.getName()), 100);
     }
 
     /**
-     * Check if note matches query
+     * Search in notes (only the ids the index matched are loaded, joined to their topics in one query)
      */
-    private boolean matchesQuery(Note note, String query) {
-        if (query == null || query.isEmpty()) {
-            return true;
+    private void searchNotes(Long userId, Map<SearchDocKey, Double> hits, Consumer<Candidate> collector) {
+        List<Long> noteIds = idsOfType(hits, ContentType.NOTE);
+        if (noteIds.isEmpty()) {
+            return;
         }
 
-        String lowerQuery = query.toLowerCase();
-        String searchText = ((note.getTitle() != null ? note.getTitle() : "") + " " +
-                (note.getContent() != null ? note.getContent() : "") + " " +
-                (note.getCodeSnippet() != null ? note.getCodeSnippet() : "") + " " +
-                (note.getTags() != null ? note.getTags() : "")).toLowerCase();
+        noteRepository.findSearchRowsByIds(userId, noteIds)
+                .forEach(row -> collector.accept(toCandidate(row, hits)));
+    }
+
+    /**
+     * Convert a note search row to a search candidate
+     */
+    private Candidate toCandidate(NoteSearchRow note, Map<SearchDocKey, Double> hits) {
+        SearchResultItem item = SearchResultItem.builder()
+                .type("NOTE")
+                .id(note.getId())
+                .title(note.getTitle() != null ? note.getTitle() : "Untitled Note")
+                .category(note.getCategory())
+                .confidenceLevel(note.getConfidenceLevel())
+                .relevanceScore(relevanceOf(hits, ContentType.NOTE, note.getId()))
+                .build();
 
-        return searchText.contains(lowerQuery);
+        // Snippet from the content, code or title - whichever matches the query best
+        return new Candidate(item, note.getTags() != null ? note.getTags() : "",
+                Arrays.asList(note.getContent(), note.getCodeSnippet(), note.getTitle()), 150);
     }
 
     /**
-     * Check if project matches query
+     * Search in projects (only the ids the index matched are loaded)
      */
-    private boolean matchesQuery(Project project, String query) {
-        if (query == null || query.isEmpty()) {
-            return true;
+    private void searchProjects(Long userId, Map<SearchDocKey, Double> hits, Consumer<Candidate> collector) {
+        List<Long> projectIds = idsOfType(hits, ContentType.PROJECT);
+        if (projectIds.isEmpty()) {
+            return;
+        }
+
+        for (Project project : projectRepository.findAllById(projectIds)) {
+            if (userId.equals(project.getUserId())) {
+                collector.accept(toCandidate(project, hits));
+            }
         }
+    }
 
-        String lowerQuery = query.toLowerCase();
-        String searchText = (project.getName() + " " +
-                (project.getDescription() != null ? project.getDescription() : "")).toLowerCase();
+    /**
+     * Convert a project to a search candidate
+     */
+    private Candidate toCandidate(Project project, Map<SearchDocKey, Double> hits) {
+        SearchResultItem item = SearchResultItem.builder()
+                .type("PROJECT")
+                .id(project.getId())
+                .title(project.getName())
+                .relevanceScore(relevanceOf(hits, ContentType.PROJECT, project.getId()))
+                .build();
 
-        return searchText.contains(lowerQuery);
+        return new Candidate(item, null, Arrays.asList(project.getDescription(), project.getName()), 150);
     }
 
     /**
-     * Apply filters to results
+     * Ids of the index hits of one content type
      */
-    private List<SearchResultItem> applyFilters(List<SearchResultItem> results, SearchRequest request) {
-        return results.stream()
-                .filter(item -> {
-                    // Category filter
-                    if (request.getCategories() != null && !request.getCategories().isEmpty()) {
-                        if (item.getCategory() == null ||
-                                !request.getCategories().contains(item.getCategory())) {
-                            return false;
-                        }
-                    }
-
-                    // Tag filter
-                    if (request.getTags() != null && !request.getTags().isEmpty()) {
-                        if (item.getTags() == null || item.getTags().isEmpty()) {
-                            return false;
-                        }
-                        boolean hasAnyTag = item.getTags().stream()
-                                .anyMatch(tag -> request.getTags().contains(tag));
-                        if (!hasAnyTag) {
-                            return false;
-                        }
-                    }
-
-                    // Confidence filter
-                    if (request.getMinConfidence() != null && item.getConfidenceLevel() != null) {
-                        if (item.getConfidenceLevel() < request.getMinConfidence()) {
-                            return false;
-                        }
-                    }
-
-                    if (request.getMaxConfidence() != null && item.getConfidenceLevel() != null) {
-                        if (item.getConfidenceLevel() > request.getMaxConfidence()) {
-                            return false;
-                        }
-                    }
-
-                    // Date range filter
-                    if (request.getLearnedAfter() != null && item.getLearnedDate() != null) {
-                        if (item.getLearnedDate().isBefore(request.getLearnedAfter())) {
-                            return false;
-                        }
-                    }
-
-                    if (request.getLearnedBefore() != null && item.getLearnedDate() != null) {
-                        if (item.getLearnedDate().isAfter(request.getLearnedBefore())) {
-                            return false;
-                        }
-                    }
-
-                    return true;
-                })
+    private List<Long> idsOfType(Map<SearchDocKey, Double> hits, ContentType type) {
+        return hits.keySet().stream()
+                .filter(key -> key.getType() == type)
+                .map(SearchDocKey::getId)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Sort results
+     * Check a result against the request filters
      */
-    private List<SearchResultItem> sortResults(List<SearchResultItem> results, SearchRequest request) {
-        String sortBy = request.getSortBy() != null ? request.getSortBy() : "relevance";
-        String sortOrder = request.getSortOrder() != null ? request.getSortOrder() : "desc";
+    private boolean matchesFilters(SearchResultItem item, SearchRequest request, Set<Long> taggedNoteIds) {
+        // Review filters only apply to topics (which were already filtered in SQL)
+        if (Boolean.TRUE.equals(request.getOnlyDueForReview()) || Boolean.TRUE.equals(request.getOnlyAtRisk())) {
+            if (!"TOPIC".equals(item.getType())) {
+                return false;
+            }
+        }
 
+        // Category filter
+        if (request.getCategories() != null && !request.getCategories().isEmpty()) {
+            if (item.getCategory() == null ||
+                    !request.getCategories().contains(item.getCategory())) {
+                return false;
+            }
+        }
+
+        // Tag filter (topics were filtered in SQL; projects have no tags)
+        if (taggedNoteIds != null) {
+            if ("PROJECT".equals(item.getType())) {
+                return false;
+            }
+            if ("NOTE".equals(item.getType()) && !taggedNoteIds.contains(item.getId())) {
+                return false;
+            }
+        }
+
+        // Confidence filter
+        if (request.getMinConfidence() != null && item.getConfidenceLevel() != null) {
+            if (item.getConfidenceLevel() < request.getMinConfidence()) {
+                return false;
+            }
+        }
+
+        if (request.getMaxConfidence() != null && item.getConfidenceLevel() != null) {
+            if (item.getConfidenceLevel() > request.getMaxConfidence()) {
+                return false;
+            }
+        }
+
+        // Date range filter
+        if (request.getLearnedAfter() != null && item.getLearnedDate() != null) {
+            if (item.getLearnedDate().isBefore(request.getLearnedAfter())) {
+                return false;
+            }
+        }
+
+        if (request.getLearnedBefore() != null && item.getLearnedDate() != null) {
+            if (item.getLearnedDate().isAfter(request.getLearnedBefore())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Result order for the requested sort key and direction.
+     * Ties are broken by type and id so the order (and therefore paging) is stable.
+     */
+    private Comparator<SearchResultItem> resultOrder(SearchRequest request) {
         Comparator<SearchResultItem> comparator;
 
-        switch (sortBy.toLowerCase()) {
+        switch (sortKey(request)) {
             case "name":
                 comparator = Comparator.comparing(SearchResultItem::getTitle,
                         Comparator.nullsLast(String::compareToIgnoreCase));
@@ -296,87 +517,135 @@ public class SearchService {
                 break;
         }
 
-        if ("asc".equalsIgnoreCase(sortOrder)) {
-            return results.stream().sorted(comparator).collect(Collectors.toList());
-        } else {
-            return results.stream().sorted(comparator.reversed()).collect(Collectors.toList());
+        if (!isAscending(request)) {
+            comparator = comparator.reversed();
         }
+
+        return comparator
+                .thenComparing(SearchResultItem::getType)
+                .thenComparing(SearchResultItem::getId);
     }
 
     /**
-     * Calculate relevance score (0-1)
+     * Encode the position of the last returned result as a continuation token.
+     * The sort key and direction are included so a cursor cannot be replayed against a different order.
      */
-    private Double calculateRelevance(String text, String query) {
-        if (query == null || query.isEmpty() || text == null) {
-            return 0.5; // Neutral relevance
+    private String encodeCursor(SearchResultItem last, SearchRequest request) {
+        String sortValue;
+        switch (sortKey(request)) {
+            case "name":
+                sortValue = last.getTitle();
+                break;
+            case "learned_date":
+                sortValue = last.getLearnedDate() != null ? last.getLearnedDate().toString() : null;
+                break;
+            case "confidence":
+                sortValue = last.getConfidenceLevel() != null ? last.getConfidenceLevel().toString() : null;
+                break;
+            case "last_reviewed":
+                sortValue = last.getLastReviewed() != null ? last.getLastReviewed().toString() : null;
+                break;
+            case "relevance":
+            default:
+                sortValue = last.getRelevanceScore() != null ? last.getRelevanceScore().toString() : null;
+                break;
         }
 
-        String lowerText = text.toLowerCase();
-        String lowerQuery = query.toLowerCase();
+        return CursorCodec.encode(sortKey(request), isAscending(request) ? "asc" : "desc",
+                sortValue, last.getType(), String.valueOf(last.getId()));
+    }
 
-        // Exact match = highest score
-        if (lowerText.equals(lowerQuery)) {
-            return 1.0;
+    /**
+     * Decode a continuation token into a result item carrying just the fields the order compares
+     */
+    private SearchResultItem decodeCursor(SearchRequest request) {
+        String[] parts = CursorCodec.decode(request.getCursor(), 5);
+        if (!sortKey(request).equals(parts[0]) || !(isAscending(request) ? "asc" : "desc").equals(parts[1])) {
+            throw new BadRequestException("Cursor does not match the requested sort order");
         }
 
-        // Starts with query = high score
-        if (lowerText.startsWith(lowerQuery)) {
-            return 0.9;
-        }
+        String sortValue = parts[2];
+        SearchResultItem after = SearchResultItem.builder()
+                .type(parts[3])
+                .id(CursorCodec.toLong(parts[4]))
+                .build();
 
-        // Contains query = medium score
-        if (lowerText.contains(lowerQuery)) {
-            // More occurrences = higher score
-            int occurrences = countOccurrences(lowerText, lowerQuery);
-            return Math.min(0.5 + (occurrences * 0.1), 0.8);
+        try {
+            switch (parts[0]) {
+                case "name":
+                    after.setTitle(sortValue);
+                    break;
+                case "learned_date":
+                    after.setLearnedDate(sortValue != null ? LocalDate.parse(sortValue) : null);
+                    break;
+                case "confidence":
+                    after.setConfidenceLevel(sortValue != null ? Integer.valueOf(sortValue) : null);
+                    break;
+                case "last_reviewed":
+                    after.setLastReviewed(sortValue != null ? LocalDate.parse(sortValue) : null);
+                    break;
+                default:
+                    after.setRelevanceScore(sortValue != null ? Double.valueOf(sortValue) : null);
+                    break;
+            }
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
         }
 
-        // No match = low score
-        return 0.1;
+        return after;
+    }
+
+    private String sortKey(SearchRequest request) {
+        return request.getSortBy() != null ? request.getSortBy().toLowerCase() : "relevance";
+    }
+
+    private boolean isAscending(SearchRequest request) {
+        return "asc".equalsIgnoreCase(request.getSortOrder());
     }
 
     /**
-     * Count occurrences of query in text
+     * Scale raw BM25 scores to 0-1 relative to the best hit, as SearchResultItem expects
      */
-    private int countOccurrences(String text, String query) {
-        int count = 0;
-        int index = 0;
-        while ((index = text.indexOf(query, index)) != -1) {
-            count++;
-            index += query.length();
+    private Map<SearchDocKey, Double> normalizeScores(Map<SearchDocKey, Double> scores) {
+        double max = scores.values().stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
+        if (max > 0) {
+            scores.replaceAll((key, score) -> Math.round(score / max * 1000.0) / 1000.0);
         }
-        return count;
+        return scores;
     }
 
     /**
-     * Create snippet with highlighted query
+     * Combine exact and typo-tolerant hits so every exact hit ranks above every fuzzy-only one:
+     * exact hits score in (0.5, 1], hits only found through a correction in (0, 0.5]
      */
-    private String createSnippet(String text, String query, int maxLength) {
-        if (text == null) {
-            return "";
-        }
-
-        if (text.length() <= maxLength) {
-            return text;
-        }
-
-        // If query exists, try to center snippet around it
-        if (query != null && !query.isEmpty()) {
-            int queryIndex = text.toLowerCase().indexOf(query.toLowerCase());
-            if (queryIndex != -1) {
-                int start = Math.max(0, queryIndex - maxLength / 2);
-                int end = Math.min(text.length(), start + maxLength);
+    private Map<SearchDocKey, Double> mergeFuzzyHits(Map<SearchDocKey, Double> exact, Map<SearchDocKey, Double> fuzzy) {
+        Map<SearchDocKey, Double> merged = new HashMap<>();
+        fuzzy.forEach((key, score) -> {
+            if (!exact.containsKey(key)) {
+                merged.put(key, Math.round(score * 500.0) / 1000.0);
+            }
+        });
+        exact.forEach((key, score) -> merged.put(key, 0.5 + Math.max(0.001, Math.round(score * 500.0) / 1000.0)));
+        return merged;
+    }
 
-                String snippet = text.substring(start, end);
-                if (start > 0) snippet = "..." + snippet;
-                if (end < text.length()) snippet = snippet + "...";
+    /**
+     * Relevance of a hit (0-1), neutral when there was no query to score against
+     */
+    private Double relevanceOf(Map<SearchDocKey, Double> hits, ContentType type, Long id) {
+        return hits.getOrDefault(new SearchDocKey(type, id), 0.5);
+    }
 
-                return snippet;
-            }
-        }
+    /**
+     * Fill in the snippet of a result on the returned page, with the ranges matching the query
+     */
+    private void applySnippet(SearchResultItem item, Candidate candidate, List<String> queryTokens) {
+        Snippet snippet = SnippetBuilder.build(candidate.getSnippetFields(), queryTokens, candidate.getSnippetLength());
 
-        // Otherwise, just return first maxLength characters
-        return text.substring(0, maxLength) + "...";
+        item.setSnippet(snippet.getText());
+        item.setHighlights(snippet.getHighlights().stream()
+                .map(span -> new HighlightRange(span.getStart(), span.getEnd()))
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -391,4 +660,35 @@ public class SearchService {
                 .filter(tag -> !tag.isEmpty())
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Feeds the candidates of one content type to a collector
+     */
+    @FunctionalInterface
+    private interface SearchSource {
+        void feed(Consumer<Candidate> collector);
+    }
+
+    /**
+     * One source's best candidates (sorted), how many passed the filters, and how many were offered to its heap
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class SourceResult {
+        private final List<Candidate> ranked;
+        private final long matches;
+        private final long offered;
+    }
+
+    /**
+     * A result that passed the filters, plus what is needed to fill in its tags and snippet later
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Candidate {
+        private final SearchResultItem item;
+        private final String tags;     // raw tags string; null for projects
+        private final List<String> snippetFields;  // in order of preference; may contain nulls
+        private final int snippetLength;
+    }
 }
@@ -0,0 +1,46 @@
+package com.org.example.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded thread pool the parallel search mode fans its topic, note and project sources out to.
+ * When the pool and its queue are full the searching thread runs the source itself.
+ *
+ * Deliberately not exposed as an Executor bean, so Spring Boot's own task executor is still configured.
+ */
+@Component
+public class SearchSourceExecutor {
+
+    private final ThreadPoolExecutor pool;
+
+    public SearchSourceExecutor(@Value("${app.search.parallel.threads:8}") int threads,
+                                @Value("${app.search.parallel.queue-capacity:256}") int queueCapacity) {
+        AtomicInteger count = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "search-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public <T> Future<T> submit(Callable<T> task) {
+        return pool.submit(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
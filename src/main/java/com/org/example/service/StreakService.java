@@ -0,0 +1,134 @@
+package com.org.example.service;
+
+import com.org.example.dashboard.DayBitmap;
+import com.org.example.dto.StreakInfo;
+import com.org.example.entities.UserStreak;
+import com.org.example.event.ReviewRecordedEvent;
+import com.org.example.exception.BadRequestException;
+import com.org.example.repository.RowInserter;
+import com.org.example.repository.UserStreakRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Per-user review streaks kept as a small state row (current run, longest run, last review day).
+ *
+ * Each recorded review advances the state in O(1) inside the review's transaction, so reading a
+ * streak never touches the review history. The state of existing users (backfill) and of users
+ * changing time zone (which moves review days) is derived from their review-day bitmap.
+ */
+@Service
+@RequiredArgsConstructor
+public class StreakService {
+
+    private final UserStreakRepository userStreakRepository;
+    private final ActivityService activityService;
+    private final UserTimeZones userTimeZones;
+    private final RowInserter rowInserter;
+
+    /**
+     * Advance the reviewer's streak by the review's day
+     */
+    @EventListener
+    @Transactional
+    public void onReviewRecorded(ReviewRecordedEvent event) {
+        UserStreak streak = lock(event.getUserId(), userTimeZones.defaultZone());
+
+        LocalDate day = userTimeZones.dayOf(event.getReviewedAt(), ZoneId.of(streak.getTimezone()));
+        advance(streak, day);
+        userStreakRepository.save(streak);
+    }
+
+    public StreakInfo getStreakInfo(Long userId) {
+        UserStreak streak = userStreakRepository.findById(userId)
+                .orElseGet(() -> new UserStreak(userId, userTimeZones.defaultZone().getId()));
+        LocalDate today = LocalDate.now(ZoneId.of(streak.getTimezone()));
+
+        return StreakInfo.builder()
+                .currentStreak(currentStreak(streak, today))
+                .longestStreak(streak.getLongestStreak())
+                .lastReviewDate(streak.getLastReviewDate())
+                .reviewedToday(today.equals(streak.getLastReviewDate()))
+                .timezone(streak.getTimezone())
+                .build();
+    }
+
+    public Integer getCurrentStreak(Long userId) {
+        return getStreakInfo(userId).getCurrentStreak();
+    }
+
+    // Change the time zone review days are counted in (the streak is rebuilt, days may shift)
+    @Transactional
+    public StreakInfo updateTimezone(Long userId, String timezone) {
+        ZoneId zone;
+        try {
+            zone = ZoneId.of(timezone);
+        } catch (DateTimeException e) {
+            throw new BadRequestException("Unknown time zone: " + timezone);
+        }
+
+        rebuild(userId, zone);
+        return getStreakInfo(userId);
+    }
+
+    // Rebuild the user's review days and streak state from the review history
+    @Transactional
+    public void rebuild(Long userId) {
+        rebuild(userId, userTimeZones.zoneOf(userId));
+    }
+
+    private void rebuild(Long userId, ZoneId zone) {
+        UserStreak streak = lock(userId, zone);
+        DayBitmap days = activityService.rebuild(userId, zone);
+
+        LocalDate last = days.getLastDay();
+        streak.setTimezone(zone.getId());
+        streak.setLastReviewDate(last);
+        streak.setCurrentStreak(last != null ? days.runEndingAt(last) : 0);
+        streak.setLongestStreak(days.longestRun());
+
+        userStreakRepository.save(streak);
+    }
+
+    // Helper: The user's row, locked for the rest of the transaction (created in the given zone when missing)
+    private UserStreak lock(Long userId, ZoneId zone) {
+        if (!userStreakRepository.existsById(userId)) {
+            try {
+                rowInserter.insert(new UserStreak(userId, zone.getId()));
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent first review created it; the locking read below sees it
+            }
+        }
+        return userStreakRepository.findForUpdateByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("user_streaks row missing for user " + userId));
+    }
+
+    // Helper: Move the state forward to a review on the given day (earlier or same-day reviews change nothing)
+    private void advance(UserStreak streak, LocalDate day) {
+        LocalDate last = streak.getLastReviewDate();
+        if (last != null && !day.isAfter(last)) {
+            return;
+        }
+
+        int current = last != null && day.equals(last.plusDays(1)) ? streak.getCurrentStreak() + 1 : 1;
+        streak.setCurrentStreak(current);
+        streak.setLongestStreak(Math.max(streak.getLongestStreak(), current));
+        streak.setLastReviewDate(day);
+    }
+
+    // Helper: A run is still current until a full day passes without a review
+    private int currentStreak(UserStreak streak, LocalDate today) {
+        LocalDate last = streak.getLastReviewDate();
+        if (last == null || last.isBefore(today.minusDays(1))) {
+            return 0;
+        }
+        return streak.getCurrentStreak();
+    }
+}
@@ -0,0 +1,267 @@
+package com.org.example.service;
+
+import com.org.example.dto.SuggestionResponse;
+import com.org.example.entities.Note;
+import com.org.example.entities.Topic;
+import com.org.example.enums.ContentType;
+import com.org.example.enums.SuggestionType;
+import com.org.example.event.ContentChangedEvent;
+import com.org.example.event.ReviewRecordedEvent;
+import com.org.example.repository.NoteRepository;
+import com.org.example.repository.TopicRepository;
+import com.org.example.search.SearchDocKey;
+import com.org.example.search.Suggestion;
+import com.org.example.search.UserSuggestions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    // Highest confidence first, then most recently written
+    private static final Comparator<Suggestion> BY_CONFIDENCE = Comparator
+            .comparing(Suggestion::getConfidenceLevel, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Suggestion::getLastUpdated, Comparator.reverseOrder())
+            .thenComparing(Suggestion::getText, String.CASE_INSENSITIVE_ORDER);
+
+    // Most recently written first, then highest confidence
+    private static final Comparator<Suggestion> BY_RECENCY = Comparator
+            .comparing(Suggestion::getLastUpdated, Comparator.reverseOrder())
+            .thenComparing(Suggestion::getConfidenceLevel, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Suggestion::getText, String.CASE_INSENSITIVE_ORDER);
+
+    private final TopicRepository topicRepository;
+    private final NoteRepository noteRepository;
+
+    @Value("${app.search.suggest.idle-timeout-minutes:30}")
+    private long idleTimeoutMinutes;
+
+    // One trie per user, built lazily on the first keystroke and dropped when idle
+    private final Map<Long, UserSuggestions> suggestions = new ConcurrentHashMap<>();
+
+    // Changes committed while a user's trie is being built, replayed onto it afterwards
+    private final Map<Long, List<Consumer<UserSuggestions>>> pendingChanges = new ConcurrentHashMap<>();
+
+    /**
+     * Completions for what the user has typed so far.
+     * sort is "confidence" (default) or "recent".
+     */
+    public List<SuggestionResponse> suggest(Long userId, String prefix, Integer limit, String sort) {
+        int n = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        Comparator<Suggestion> order = "recent".equalsIgnoreCase(sort) ? BY_RECENCY : BY_CONFIDENCE;
+
+        return getSuggestions(userId).suggest(prefix, n, order).stream()
+                .map(suggestion -> SuggestionResponse.builder()
+                        .type(suggestion.getType().name())
+                        .text(suggestion.getText())
+                        .id(suggestion.getId())
+                        .confidenceLevel(suggestion.getConfidenceLevel())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Keep already-built tries in sync with topic and note writes (after commit)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.getType() == ContentType.PROJECT) {
+            return;
+        }
+        update(event.getUserId(), userSuggestions -> apply(userSuggestions, event));
+    }
+
+    /**
+     * A review changes the topic's confidence, which ranks its completions and its notes' (after commit)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewRecorded(ReviewRecordedEvent event) {
+        update(event.getUserId(), userSuggestions -> refreshTopic(userSuggestions, event.getTopicId()));
+    }
+
+    /**
+     * Drop tries nobody has typed into for a while; they are rebuilt on next use
+     */
+    @Scheduled(fixedDelayString = "${app.search.suggest.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMinutes * 60_000;
+        suggestions.entrySet().removeIf(entry -> entry.getValue().getLastAccessMillis() < cutoff);
+    }
+
+    // Helper: Get the user's trie, building it from the database on first use
+    private UserSuggestions getSuggestions(Long userId) {
+        UserSuggestions userSuggestions = suggestions.get(userId);
+        if (userSuggestions != null) {
+            return userSuggestions;
+        }
+        userSuggestions = suggestions.computeIfAbsent(userId, this::build);
+        replayPending(userId, userSuggestions);
+        return userSuggestions;
+    }
+
+    // Helper: Apply a change to the user's trie, or buffer it while the trie is being built
+    private void update(Long userId, Consumer<UserSuggestions> change) {
+        UserSuggestions userSuggestions = suggestions.get(userId);
+        if (userSuggestions == null) {
+            List<Consumer<UserSuggestions>> pending = pendingChanges.get(userId);
+            if (pending != null) {
+                synchronized (pending) {
+                    if (pendingChanges.get(userId) == pending) {
+                        pending.add(change);
+                        return;
+                    }
+                }
+            }
+            userSuggestions = suggestions.get(userId);
+            if (userSuggestions == null) {
+                return; // Not built yet - will pick up the change when it is
+            }
+        }
+        change.accept(userSuggestions);
+    }
+
+    // Helper: Apply the changes buffered during the build; later changes go straight to the trie
+    private void replayPending(Long userId, UserSuggestions userSuggestions) {
+        List<Consumer<UserSuggestions>> pending = pendingChanges.get(userId);
+        if (pending == null) {
+            return;
+        }
+        synchronized (pending) {
+            for (Consumer<UserSuggestions> change : pending) {
+                change.accept(userSuggestions);
+            }
+            pending.clear();
+            pendingChanges.remove(userId, pending);
+        }
+    }
+
+    // Helper: Re-read one changed topic or note into the trie (a deleted topic takes its notes with it)
+    private void apply(UserSuggestions userSuggestions, ContentChangedEvent event) {
+        if (event.getType() == ContentType.TOPIC) {
+            if (event.isDeleted()) {
+                userSuggestions.remove(new SearchDocKey(ContentType.TOPIC, event.getId()));
+                for (Note note : noteRepository.findByTopicId(event.getId())) {
+                    userSuggestions.remove(new SearchDocKey(ContentType.NOTE, note.getId()));
+                }
+                return;
+            }
+            refreshTopic(userSuggestions, event.getId());
+            return;
+        }
+
+        SearchDocKey key = new SearchDocKey(ContentType.NOTE, event.getId());
+        if (event.isDeleted()) {
+            userSuggestions.remove(key);
+            return;
+        }
+        noteRepository.findById(event.getId()).ifPresent(note ->
+                userSuggestions.put(key, suggestionsOf(note, topicRepository.findById(note.getTopicId()).orElse(null))));
+    }
+
+    // Helper: Re-read a topic and its notes into an already-built trie
+    private void refreshTopic(UserSuggestions userSuggestions, Long topicId) {
+        topicRepository.findById(topicId).ifPresent(topic -> {
+            userSuggestions.put(new SearchDocKey(ContentType.TOPIC, topic.getId()), suggestionsOf(topic));
+            // Notes are ranked by their topic's confidence
+            for (Note note : noteRepository.findByTopicId(topic.getId())) {
+                userSuggestions.put(new SearchDocKey(ContentType.NOTE, note.getId()), suggestionsOf(note, topic));
+            }
+        });
+    }
+
+    // Helper: Build the user's trie; changes committed meanwhile are buffered for replayPending
+    private UserSuggestions build(Long userId) {
+        // Buffer changes from here on: the rows read below may predate them
+        List<Consumer<UserSuggestions>> pending = new ArrayList<>();
+        pendingChanges.put(userId, pending);
+
+        try {
+            return load(userId);
+        } catch (RuntimeException e) {
+            pendingChanges.remove(userId, pending);
+            throw e;
+        }
+    }
+
+    // Helper: Load the user's topics and notes into a fresh trie
+    private UserSuggestions load(Long userId) {
+        UserSuggestions userSuggestions = new UserSuggestions();
+
+        Map<Long, Topic> topics = topicRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(Topic::getId, Function.identity()));
+        topics.values().forEach(topic ->
+                userSuggestions.put(new SearchDocKey(ContentType.TOPIC, topic.getId()), suggestionsOf(topic)));
+
+        for (Note note : noteRepository.findByUserId(userId)) {
+            userSuggestions.put(new SearchDocKey(ContentType.NOTE, note.getId()),
+                    suggestionsOf(note, topics.get(note.getTopicId())));
+        }
+
+        return userSuggestions;
+    }
+
+    // Helper: Completions contributed by a topic (its name, category and tags)
+    private List<Suggestion> suggestionsOf(Topic topic) {
+        long updated = epochMillis(topic.getUpdatedAt(), topic.getCreatedAt());
+        Integer confidence = topic.getConfidenceLevel();
+
+        List<Suggestion> result = new ArrayList<>();
+        result.add(new Suggestion(SuggestionType.TOPIC, topic.getName(), topic.getId(), confidence, updated));
+        if (topic.getCategory() != null) {
+            result.add(new Suggestion(SuggestionType.CATEGORY, topic.getCategory(), topic.getId(), confidence, updated));
+        }
+        for (String tag : splitTags(topic.getTags())) {
+            result.add(new Suggestion(SuggestionType.TAG, tag, topic.getId(), confidence, updated));
+        }
+        return result;
+    }
+
+    // Helper: Completions contributed by a note (its title and tags), ranked by its topic's confidence
+    private List<Suggestion> suggestionsOf(Note note, Topic topic) {
+        long updated = epochMillis(note.getUpdatedAt(), note.getCreatedAt());
+        Integer confidence = topic != null ? topic.getConfidenceLevel() : null;
+
+        List<Suggestion> result = new ArrayList<>();
+        if (note.getTitle() != null) {
+            result.add(new Suggestion(SuggestionType.NOTE, note.getTitle(), note.getId(), confidence, updated));
+        }
+        for (String tag : splitTags(note.getTags())) {
+            result.add(new Suggestion(SuggestionType.TAG, tag, note.getId(), confidence, updated));
+        }
+        return result;
+    }
+
+    private List<String> splitTags(String tags) {
+        if (tags == null || tags.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(tags.split(","))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private long epochMillis(LocalDateTime updatedAt, LocalDateTime createdAt) {
+        LocalDateTime time = updatedAt != null ? updatedAt : createdAt;
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+}
@@ -0,0 +1,162 @@
+package com.org.example.service;
+
+import com.org.example.dto.TagCountResponse;
+import com.org.example.entities.NoteTag;
+import com.org.example.entities.Tag;
+import com.org.example.entities.TopicTag;
+import com.org.example.event.ContentChangedEvent;
+import com.org.example.repository.NoteRepository;
+import com.org.example.repository.NoteTagRepository;
+import com.org.example.repository.RowInserter;
+import com.org.example.repository.TagCount;
+import com.org.example.repository.TagRepository;
+import com.org.example.repository.TopicRepository;
+import com.org.example.repository.TopicTagRepository;
+import com.org.example.util.TagNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TagService {
+
+    private static final int DEFAULT_CLOUD_SIZE = 50;
+
+    private final TagRepository tagRepository;
+    private final TopicTagRepository topicTagRepository;
+    private final NoteTagRepository noteTagRepository;
+    private final TopicRepository topicRepository;
+    private final NoteRepository noteRepository;
+    private final RowInserter rowInserter;
+
+    /**
+     * Keep topic_tags / note_tags in step with the tags strings.
+     * Runs inside the writing transaction, so the links commit or roll back with the write.
+     */
+    @EventListener
+    @Transactional
+    public void onContentChanged(ContentChangedEvent event) {
+        switch (event.getType()) {
+            case TOPIC:
+                if (event.isDeleted()) {
+                    topicTagRepository.deleteByTopicId(event.getId());
+                    noteTagRepository.deleteByTopicId(event.getId());
+                } else {
+                    topicRepository.findById(event.getId())
+                            .ifPresent(topic -> syncTopicTags(topic.getId(), topic.getTags()));
+                }
+                break;
+            case NOTE:
+                if (event.isDeleted()) {
+                    noteTagRepository.deleteByNoteId(event.getId());
+                } else {
+                    noteRepository.findById(event.getId())
+                            .ifPresent(note -> syncNoteTags(note.getId(), note.getTags()));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Replace a topic's tag links with the tags in its tags string
+    @Transactional
+    public void syncTopicTags(Long topicId, String tags) {
+        topicTagRepository.deleteByTopicId(topicId);
+        List<TopicTag> links = resolve(TagNames.parse(tags)).stream()
+                .map(tag -> new TopicTag(topicId, tag.getId()))
+                .collect(Collectors.toList());
+        topicTagRepository.saveAll(links);
+    }
+
+    // Replace a note's tag links with the tags in its tags string
+    @Transactional
+    public void syncNoteTags(Long noteId, String tags) {
+        noteTagRepository.deleteByNoteId(noteId);
+        List<NoteTag> links = resolve(TagNames.parse(tags)).stream()
+                .map(tag -> new NoteTag(noteId, tag.getId()))
+                .collect(Collectors.toList());
+        noteTagRepository.saveAll(links);
+    }
+
+    // Ids of the user's notes carrying any of the tags
+    public Set<Long> getNoteIdsWithAnyTag(Long userId, Collection<String> tags) {
+        return Set.copyOf(noteTagRepository.findNoteIdsByUserIdAndTagNames(userId, TagNames.normalize(tags)));
+    }
+
+    // Tag cloud: the user's most used tags across topics and notes
+    public List<TagCountResponse> getTagCloud(Long userId, Integer limit) {
+        int size = limit != null && limit > 0 ? limit : DEFAULT_CLOUD_SIZE;
+
+        Map<String, TagCountResponse> counts = new HashMap<>();
+        for (TagCount count : topicTagRepository.countByUserId(userId)) {
+            counts.computeIfAbsent(count.getName(), this::emptyCount).setTopicCount(count.getCount());
+        }
+        for (TagCount count : noteTagRepository.countByUserId(userId)) {
+            counts.computeIfAbsent(count.getName(), this::emptyCount).setNoteCount(count.getCount());
+        }
+
+        return counts.values().stream()
+                .peek(count -> count.setCount(count.getTopicCount() + count.getNoteCount()))
+                .sorted(Comparator.comparing(TagCountResponse::getCount).reversed()
+                        .thenComparing(TagCountResponse::getName))
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    // Helper: Dictionary entries for the names, creating the missing ones
+    private List<Tag> resolve(List<String> names) {
+        if (names.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Tag> existing = tagRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(Tag::getName, Function.identity(), (a, b) -> a));
+
+        // Another user may create the same tag concurrently: insert each on its own (a duplicate
+        // fails only that insert), then read back. Sorted so two writers meet names in the same order.
+        List<String> missing = names.stream()
+                .filter(name -> !existing.containsKey(name))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            for (String name : missing) {
+                try {
+                    rowInserter.insert(new Tag(null, name));
+                } catch (DataIntegrityViolationException e) {
+                    // Created concurrently; the locking read below sees it
+                }
+            }
+            for (Tag tag : tagRepository.findLockedByNameIn(missing)) {
+                existing.put(tag.getName(), tag);
+            }
+        }
+
+        List<Tag> tags = new ArrayList<>();
+        for (String name : names) {
+            Tag tag = existing.get(name);
+            if (tag != null) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    private TagCountResponse emptyCount(String name) {
+        return TagCountResponse.builder().name(name).topicCount(0L).noteCount(0L).count(0L).build();
+    }
+}
@@ -1,13 +1,19 @@
 package com.org.example.service;
 
+import com.org.example.dto.CursorPage;
 import com.org.example.dto.TopicRequest;
 import com.org.example.dto.TopicResponse;
 import com.org.example.entities.Topic;
+import com.org.example.enums.ContentType;
+import com.org.example.event.ContentChangedEvent;
 import com.org.example.exception.ResourceNotFoundException;
 import com.org.example.exception.UnauthorizedException;
 import com.org.example.mapper.TopicMapper;
 import com.org.example.repository.TopicRepository;
+import com.org.example.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +28,7 @@ public class TopicService {
     private final TopicRepository topicRepository;
     private final TopicMapper topicMapper;
     private final LearningPathService learningPathService;  // NEW
+    private final ApplicationEventPublisher eventPublisher;
 
     // Create a new topic
     @Transactional
@@ -46,6 +53,8 @@ public class TopicService {
         // ADD THIS: Add to learning path
         learningPathService.addToLearningPath(userId, savedTopic.getId());
 
+        eventPublisher.publishEvent(ContentChangedEvent.saved(userId, ContentType.TOPIC, savedTopic.getId()));
+
         return enrichTopicResponse(savedTopic);
     }
 
@@ -65,6 +74,33 @@ public class TopicService {
                 .collect(Collectors.toList());
     }
 
+    // Get one keyset page of topics (optionally filtered by category), in id order
+    public CursorPage<TopicResponse> getTopicsPage(Long userId, String category, String cursor, Integer size) {
+        int pageSize = CursorCodec.pageSize(size);
+        Long afterId = cursor != null ? CursorCodec.toLong(CursorCodec.decode(cursor, 1)[0]) : 0L;
+
+        // Fetch one extra row to know whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<Topic> topics = category != null && !category.isEmpty()
+                ? topicRepository.findByUserIdAndCategoryAndIdGreaterThanOrderByIdAsc(userId, category, afterId, limit)
+                : topicRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, afterId, limit);
+
+        boolean hasMore = topics.size() > pageSize;
+        if (hasMore) {
+            topics = topics.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore
+                ? CursorCodec.encode(String.valueOf(topics.get(topics.size() - 1).getId()))
+                : null;
+
+        return CursorPage.<TopicResponse>builder()
+                .items(topics.stream().map(this::enrichTopicResponse).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
     // Get topics by category
     public List<TopicResponse> getTopicsByCategory(String category, Long userId) {
         List<Topic> topics = topicRepository.findByUserIdAndCategory(userId, category);
@@ -118,6 +154,8 @@ public class TopicService {
         topicMapper.updateEntity(topic, request);
         Topic updatedTopic = topicRepository.save(topic);
 
+        eventPublisher.publishEvent(ContentChangedEvent.saved(userId, ContentType.TOPIC, id));
+
         return enrichTopicResponse(updatedTopic);
     }
 
@@ -131,6 +169,8 @@ public class TopicService {
         learningPathService.removeFromLearningPath(userId, id);
 
         topicRepository.delete(topic);
+
+        eventPublisher.publishEvent(ContentChangedEvent.deleted(userId, ContentType.TOPIC, id));
     }
 
     // Get topics with low confidence (at-risk topics)
@@ -0,0 +1,230 @@
+package com.org.example.service;
+
+import com.org.example.entities.UserCategoryStats;
+import com.org.example.entities.UserStats;
+import com.org.example.event.ContentChangedEvent;
+import com.org.example.event.ReviewRecordedEvent;
+import com.org.example.repository.CategoryTotals;
+import com.org.example.repository.NoteRepository;
+import com.org.example.repository.ProjectRepository;
+import com.org.example.repository.ReviewSessionRepository;
+import com.org.example.repository.ReviewTotals;
+import com.org.example.repository.RowInserter;
+import com.org.example.repository.TopicRepository;
+import com.org.example.repository.TopicTotals;
+import com.org.example.repository.UserCategoryStatsRepository;
+import com.org.example.repository.UserRepository;
+import com.org.example.repository.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the user_stats row of each user.
+ *
+ * A write only recomputes the group of totals it can affect (topics, notes, projects or reviews),
+ * each with one aggregate query over the user's indexed rows, inside the writing transaction and
+ * under a lock on the user's row. A nightly rebuild reconciles any drift (e.g. rows changed by hand).
+ *
+ * With app.dashboard.category-rollup on, the per-category totals (user_category_stats) are refreshed
+ * with the topic totals from one GROUP BY category query; with it off they are aggregated on read.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserCategoryStatsRepository categoryStatsRepository;
+    private final UserRepository userRepository;
+    private final TopicRepository topicRepository;
+    private final NoteRepository noteRepository;
+    private final ProjectRepository projectRepository;
+    private final ReviewSessionRepository reviewRepository;
+    private final RowInserter rowInserter;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfidenceBands confidenceBands;
+
+    @Value("${app.dashboard.category-rollup:true}")
+    private boolean categoryRollup;
+
+    /**
+     * The user's totals; built on first use
+     */
+    @Transactional
+    public UserStats getStats(Long userId) {
+        return userStatsRepository.findById(userId)
+                .orElseGet(() -> rebuild(userId));
+    }
+
+    /**
+     * The user's categories, largest first: the rollup rows (built on first use) or, with the
+     * rollup off, transient rows from one aggregate query
+     */
+    @Transactional
+    public List<UserCategoryStats> getCategoryStats(Long userId) {
+        if (!categoryRollup) {
+            List<UserCategoryStats> categories = new ArrayList<>();
+            for (CategoryTotals totals : categoryTotals(userId)) {
+                UserCategoryStats category = new UserCategoryStats(userId, totals.getCategory());
+                category.apply(totals);
+                categories.add(category);
+            }
+            return categories;
+        }
+
+        List<UserCategoryStats> categories = categoryStatsRepository.findByUserIdOrderByTopicsDescCategoryAsc(userId);
+        if (categories.isEmpty() && getStats(userId).getTotalTopics() > 0) {
+            // Users whose stats predate the rollup
+            lock(userId);
+            refreshCategories(userId);
+            categories = categoryStatsRepository.findByUserIdOrderByTopicsDescCategoryAsc(userId);
+        }
+        return categories;
+    }
+
+    /**
+     * Runs inside the writing transaction, so the totals commit or roll back with the write
+     */
+    @EventListener
+    @Transactional
+    public void onContentChanged(ContentChangedEvent event) {
+        UserStats stats = lock(event.getUserId());
+        switch (event.getType()) {
+            case TOPIC:
+                refreshTopics(stats);
+                break;
+            case NOTE:
+                refreshNotes(stats);
+                break;
+            case PROJECT:
+                refreshProjects(stats);
+                break;
+            default:
+                break;
+        }
+        userStatsRepository.save(stats);
+    }
+
+    /**
+     * A review adds to the review totals and changes the reviewed topic's confidence
+     */
+    @EventListener
+    @Transactional
+    public void onReviewRecorded(ReviewRecordedEvent event) {
+        UserStats stats = lock(event.getUserId());
+        refreshReviews(stats);
+        refreshTopics(stats);
+        userStatsRepository.save(stats);
+    }
+
+    // Recompute every total of a user from scratch
+    @Transactional
+    public UserStats rebuild(Long userId) {
+        UserStats stats = lock(userId);
+        refreshTopics(stats);
+        refreshNotes(stats);
+        refreshProjects(stats);
+        refreshReviews(stats);
+        return userStatsRepository.save(stats);
+    }
+
+    /**
+     * Rebuild the totals of every user, one short transaction per batch of users
+     */
+    @Scheduled(cron = "${app.dashboard.stats-rebuild-cron:0 30 3 * * *}")
+    public void rebuildAll() {
+        long afterId = 0;
+        List<Long> userIds;
+        while (!(userIds = userRepository.findIdsAfter(afterId, Limit.of(BATCH_SIZE))).isEmpty()) {
+            List<Long> batch = userIds;
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::rebuild));
+            afterId = batch.get(batch.size() - 1);
+        }
+    }
+
+    // Helper: The user's row, locked for the rest of the transaction (created when missing)
+    private UserStats lock(Long userId) {
+        if (!userStatsRepository.existsById(userId)) {
+            try {
+                rowInserter.insert(new UserStats(userId));
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent first write created it; the locking read below sees it
+            }
+        }
+        return userStatsRepository.findForUpdateByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("user_stats row missing for user " + userId));
+    }
+
+    private void refreshTopics(UserStats stats) {
+        TopicTotals totals = topicRepository.getTotalsByUserId(stats.getUserId());
+        stats.setTotalTopics(totals.getTopics());
+        stats.setConfidenceSum(totals.getConfidenceSum());
+        stats.setConfidenceCount(totals.getConfidenceCount());
+        stats.setFirstLearnedDate(totals.getFirstLearnedDate());
+        stats.setLastLearnedDate(totals.getLastLearnedDate());
+
+        long[] bands = confidenceBands.count(topicRepository.countByConfidenceLevel(stats.getUserId()));
+        stats.setWeakTopics(bands[ConfidenceBands.Band.WEAK.ordinal()]);
+        stats.setModerateTopics(bands[ConfidenceBands.Band.MODERATE.ordinal()]);
+        stats.setStrongTopics(bands[ConfidenceBands.Band.STRONG.ordinal()]);
+
+        if (categoryRollup) {
+            refreshCategories(stats.getUserId());
+        }
+    }
+
+    // Helper: Bring the user's category rows in line with one GROUP BY category query
+    private void refreshCategories(Long userId) {
+        Map<String, UserCategoryStats> existing = new HashMap<>();
+        for (UserCategoryStats category : categoryStatsRepository.findByUserIdOrderByTopicsDescCategoryAsc(userId)) {
+            existing.put(category.getCategory(), category);
+        }
+
+        List<UserCategoryStats> changed = new ArrayList<>();
+        for (CategoryTotals totals : categoryTotals(userId)) {
+            UserCategoryStats category = existing.remove(totals.getCategory());
+            if (category == null) {
+                category = new UserCategoryStats(userId, totals.getCategory());
+            }
+            category.apply(totals);
+            changed.add(category);
+        }
+
+        // Categories without topics left
+        categoryStatsRepository.deleteAllInBatch(existing.values());
+        categoryStatsRepository.saveAll(changed);
+    }
+
+    private List<CategoryTotals> categoryTotals(Long userId) {
+        return topicRepository.getCategoryTotalsByUserId(userId,
+                confidenceBands.getWeakBelow(), confidenceBands.getStrongFrom());
+    }
+
+    private void refreshNotes(UserStats stats) {
+        stats.setTotalNotes(noteRepository.countByUserId(stats.getUserId()));
+    }
+
+    private void refreshProjects(UserStats stats) {
+        stats.setTotalProjects(projectRepository.countByUserId(stats.getUserId()));
+    }
+
+    private void refreshReviews(UserStats stats) {
+        ReviewTotals totals = reviewRepository.getTotalsByUserId(stats.getUserId());
+        stats.setTotalReviews(totals.getReviews());
+        stats.setRatingSum(totals.getRatingSum());
+        stats.setTimeSpentMinutes(totals.getTimeSpentMinutes());
+    }
+}
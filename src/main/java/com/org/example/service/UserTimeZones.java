@@ -0,0 +1,40 @@
+package com.org.example.service;
+
+import com.org.example.repository.UserStreakRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * The time zone a user's review days are counted in (kept on the user's streak row).
+ * Review times are stored in the server's zone and converted here.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserTimeZones {
+
+    private final UserStreakRepository userStreakRepository;
+
+    // Zone of users who have not chosen one; empty = server zone
+    @Value("${app.streak.default-timezone:}")
+    private String defaultTimezone;
+
+    public ZoneId zoneOf(Long userId) {
+        return userStreakRepository.findById(userId)
+                .map(streak -> ZoneId.of(streak.getTimezone()))
+                .orElseGet(this::defaultZone);
+    }
+
+    public ZoneId defaultZone() {
+        return defaultTimezone == null || defaultTimezone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(defaultTimezone);
+    }
+
+    // Calendar day of a stored review time in the given zone
+    public LocalDate dayOf(LocalDateTime reviewedAt, ZoneId zone) {
+        return reviewedAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone).toLocalDate();
+    }
+}
@@ -0,0 +1,70 @@
+package com.org.example.util;
+
+import com.org.example.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes keyset pagination positions as opaque, URL-safe continuation tokens.
+ *
+ * A cursor is a fixed number of string parts (e.g. "reviewedAt", "id"), each Base64url
+ * encoded and joined with '.', so clients can pass it back without interpreting it.
+ */
+public final class CursorCodec {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String NULL_PART = "~";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String... parts) {
+        StringBuilder cursor = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) cursor.append('.');
+            cursor.append(parts[i] == null
+                    ? NULL_PART
+                    : Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(parts[i].getBytes(StandardCharsets.UTF_8)));
+        }
+        return cursor.toString();
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        String[] parts = cursor.split("\\.", -1);
+        if (parts.length != expectedParts) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = NULL_PART.equals(parts[i])
+                        ? null
+                        : new String(Base64.getUrlDecoder().decode(parts[i]), StandardCharsets.UTF_8);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return parts;
+    }
+
+    // Parse a numeric cursor part, rejecting tampered values
+    public static Long toLong(String part) {
+        try {
+            return part != null ? Long.valueOf(part) : null;
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    // Clamp a requested page size to 1..MAX_PAGE_SIZE (default when absent)
+    public static int pageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+}
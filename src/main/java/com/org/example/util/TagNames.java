@@ -0,0 +1,40 @@
+package com.org.example.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Normalizes tag names the way the tag dictionary stores them (trimmed, lowercase, at most 100 characters)
+ */
+public final class TagNames {
+
+    public static final int MAX_LENGTH = 100;
+
+    private TagNames() {
+    }
+
+    /**
+     * Split a comma-separated tags string into distinct normalized names
+     */
+    public static List<String> parse(String tags) {
+        if (tags == null || tags.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return normalize(Arrays.asList(tags.split(",")));
+    }
+
+    public static List<String> normalize(Collection<String> tags) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String tag : tags) {
+            String name = tag.trim().toLowerCase();
+            if (!name.isEmpty()) {
+                names.add(name.length() > MAX_LENGTH ? name.substring(0, MAX_LENGTH) : name);
+            }
+        }
+        return new ArrayList<>(names);
+    }
+}
@@ -0,0 +1,209 @@
+package com.org.example.dashboard;
+
+import com.org.example.dto.CategoryStats;
+import com.org.example.dto.MonthlyProgress;
+import com.org.example.entities.ReviewSession;
+import com.org.example.entities.Topic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Single-pass aggregation against the per-figure streams the dashboard used before.
+ *
+ * Both sides start from lists already in memory, so this only measures the CPU side; the old
+ * dashboard additionally fetched the topic list eight times and the review list four times.
+ * Run with: java -cp target/test-classes:target/classes:(test classpath) com.org.example.dashboard.DashboardAggregatorBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardAggregatorBenchmark {
+
+	private static final String[] CATEGORIES = {"Java", "Spring", "SQL", "Docker", "Algorithms", "React", "Kafka", "AWS"};
+
+	@Param("10000")
+	private int topicCount;
+
+	@Param("100000")
+	private int reviewCount;
+
+	private List<Topic> topics;
+	private List<ReviewSession> reviews;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		LocalDate today = LocalDate.now();
+
+		topics = new ArrayList<>(topicCount);
+		for (int i = 0; i < topicCount; i++) {
+			Topic topic = new Topic();
+			topic.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+			topic.setConfidenceLevel(1 + random.nextInt(5));
+			topic.setLearnedDate(today.minusDays(random.nextInt(730)));
+			topic.setLastReviewed(today.minusDays(random.nextInt(200)));
+			topics.add(topic);
+		}
+
+		reviews = new ArrayList<>(reviewCount);
+		for (int i = 0; i < reviewCount; i++) {
+			ReviewSession review = new ReviewSession();
+			review.setReviewedAt(LocalDateTime.now().minusMinutes(random.nextInt(730 * 24 * 60)));
+			review.setNextReviewDate(today.plusDays(random.nextInt(60) - 30));
+			review.setRating(1 + random.nextInt(5));
+			review.setTimeSpentMinutes(5 + random.nextInt(55));
+			reviews.add(review);
+		}
+	}
+
+	@Benchmark
+	public void singlePass(Blackhole blackhole) {
+		DashboardAggregator aggregator = new DashboardAggregator(LocalDateTime.now(), 3, 4, 12);
+		for (Topic topic : topics) {
+			aggregator.addTopic(topic.getConfidenceLevel(), topic.getCategory(),
+					topic.getLearnedDate(), topic.getLastReviewed());
+		}
+		for (ReviewSession review : reviews) {
+			aggregator.addReview(review.getReviewedAt(), review.getNextReviewDate(),
+					review.getRating(), review.getTimeSpentMinutes());
+		}
+
+		blackhole.consume(aggregator.getConfidenceSum() / (double) aggregator.getConfidenceCount());
+		blackhole.consume(aggregator.getWeakTopics() + aggregator.getModerateTopics() + aggregator.getStrongTopics());
+		blackhole.consume(aggregator.getAtRiskTopics());
+		blackhole.consume(aggregator.getCategoryStats());
+		YearMonth current = YearMonth.now();
+		for (int monthsAgo = 11; monthsAgo >= 0; monthsAgo--) {
+			YearMonth month = current.minusMonths(monthsAgo);
+			blackhole.consume(aggregator.getTopicsLearned(month) + aggregator.getReviewsCompleted(month));
+		}
+		blackhole.consume(aggregator.getFirstLearnedDate());
+		blackhole.consume(aggregator.getLastLearnedDate());
+		blackhole.consume(aggregator.getCurrentStreak());
+		blackhole.consume(aggregator.getLongestStreak());
+		blackhole.consume(aggregator.getRatingSum() / (double) aggregator.getTotalReviews());
+		blackhole.consume(aggregator.isReviewedToday());
+		blackhole.consume(aggregator.getReviewsThisWeek() + aggregator.getReviewsThisMonth());
+		blackhole.consume(aggregator.getDueToday() + aggregator.getOverdue());
+	}
+
+	// The figures the way DashboardService computed them, one stream per figure
+	@Benchmark
+	public void multiPass(Blackhole blackhole) {
+		LocalDate today = LocalDate.now();
+		LocalDateTime now = LocalDateTime.now();
+
+		blackhole.consume(topics.stream().filter(t -> t.getConfidenceLevel() != null)
+				.mapToInt(Topic::getConfidenceLevel).average().orElse(0.0));
+		blackhole.consume(topics.stream().filter(t -> t.getConfidenceLevel() < 3).count());
+		blackhole.consume(topics.stream().filter(t -> t.getConfidenceLevel() == 3).count());
+		blackhole.consume(topics.stream().filter(t -> t.getConfidenceLevel() >= 4).count());
+		LocalDate threshold = today.minusDays(90);
+		blackhole.consume(topics.stream()
+				.filter(t -> t.getLastReviewed() != null && t.getLastReviewed().isBefore(threshold)).count());
+
+		Map<String, List<Topic>> byCategory = topics.stream()
+				.filter(t -> t.getCategory() != null)
+				.collect(Collectors.groupingBy(Topic::getCategory));
+		blackhole.consume(byCategory.entrySet().stream()
+				.map(entry -> CategoryStats.builder()
+						.category(entry.getKey())
+						.count((long) entry.getValue().size())
+						.averageConfidence(entry.getValue().stream().mapToInt(Topic::getConfidenceLevel).average().orElse(0.0))
+						.build())
+				.sorted(Comparator.comparing(CategoryStats::getCount).reversed())
+				.collect(Collectors.toList()));
+
+		Map<String, Long> topicsByMonth = topics.stream()
+				.filter(t -> t.getLearnedDate() != null)
+				.collect(Collectors.groupingBy(t -> t.getLearnedDate().format(DateTimeFormatter.ofPattern("yyyy-MM")),
+						Collectors.counting()));
+		Map<String, Long> reviewsByMonth = reviews.stream()
+				.collect(Collectors.groupingBy(r -> r.getReviewedAt().format(DateTimeFormatter.ofPattern("yyyy-MM")),
+						Collectors.counting()));
+		List<MonthlyProgress> progress = new ArrayList<>();
+		for (int i = 11; i >= 0; i--) {
+			LocalDate month = today.minusMonths(i);
+			String monthKey = month.format(DateTimeFormatter.ofPattern("yyyy-MM"));
+			progress.add(MonthlyProgress.builder()
+					.month(monthKey)
+					.monthName(month.format(DateTimeFormatter.ofPattern("MMMM yyyy")))
+					.topicsLearned(topicsByMonth.getOrDefault(monthKey, 0L))
+					.reviewsCompleted(reviewsByMonth.getOrDefault(monthKey, 0L))
+					.build());
+		}
+		blackhole.consume(progress);
+
+		blackhole.consume(topics.stream().map(Topic::getLearnedDate).filter(Objects::nonNull).min(LocalDate::compareTo));
+		LocalDate start = topics.stream().map(Topic::getLearnedDate).filter(Objects::nonNull).min(LocalDate::compareTo).get();
+		LocalDate end = topics.stream().map(Topic::getLearnedDate).filter(Objects::nonNull).max(LocalDate::compareTo).get();
+		blackhole.consume(ChronoUnit.DAYS.between(start, end));
+
+		Set<LocalDate> reviewDates = reviews.stream().map(r -> r.getReviewedAt().toLocalDate()).collect(Collectors.toSet());
+		int streak = 0;
+		for (LocalDate day = today; reviewDates.contains(day); day = day.minusDays(1)) {
+			streak++;
+		}
+		blackhole.consume(streak);
+
+		List<LocalDate> sortedDates = new ArrayList<>(
+				reviews.stream().map(r -> r.getReviewedAt().toLocalDate()).collect(Collectors.toSet()));
+		Collections.sort(sortedDates);
+		int longest = 0;
+		int current = 1;
+		for (int i = 1; i < sortedDates.size(); i++) {
+			if (ChronoUnit.DAYS.between(sortedDates.get(i - 1), sortedDates.get(i)) == 1) {
+				current++;
+			} else {
+				longest = Math.max(longest, current);
+				current = 1;
+			}
+		}
+		blackhole.consume(Math.max(longest, current));
+
+		blackhole.consume(reviews.stream().mapToInt(ReviewSession::getRating).average().orElse(0.0));
+		blackhole.consume(reviews.stream().anyMatch(r -> r.getReviewedAt().toLocalDate().equals(today)));
+		blackhole.consume(reviews.stream().filter(r -> !r.getReviewedAt().isBefore(now.minusDays(7))).count());
+		blackhole.consume(reviews.stream().filter(r -> !r.getReviewedAt().isBefore(now.minusDays(30))).count());
+		blackhole.consume(reviews.stream().filter(r -> !r.getNextReviewDate().isAfter(today)).count());
+		blackhole.consume(reviews.stream().filter(r -> !r.getNextReviewDate().isAfter(today.minusDays(1))).count());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(DashboardAggregatorBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
@@ -0,0 +1,89 @@
+package com.org.example.dashboard;
+
+import com.org.example.dto.CategoryStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DashboardAggregatorTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 15, 12, 0);
+
+	@Test
+	void aggregatesTopicsIntoBandsCategoriesAndMonths() {
+		DashboardAggregator aggregator = new DashboardAggregator(NOW, 3, 4, 12);
+		aggregator.addTopic(2, "Java", LocalDate.of(2024, 6, 1), LocalDate.of(2024, 1, 1));
+		aggregator.addTopic(3, "Java", LocalDate.of(2024, 5, 20), null);
+		aggregator.addTopic(5, "SQL", LocalDate.of(2023, 1, 10), LocalDate.of(2024, 6, 10));
+		aggregator.addTopic(null, null, null, null);
+
+		assertEquals(4, aggregator.getTotalTopics());
+		assertEquals(10, aggregator.getConfidenceSum());
+		assertEquals(3, aggregator.getConfidenceCount());
+		assertEquals(1, aggregator.getWeakTopics());
+		assertEquals(1, aggregator.getModerateTopics());
+		assertEquals(1, aggregator.getStrongTopics());
+		assertEquals(1, aggregator.getAtRiskTopics());
+		assertEquals(LocalDate.of(2023, 1, 10), aggregator.getFirstLearnedDate());
+		assertEquals(LocalDate.of(2024, 6, 1), aggregator.getLastLearnedDate());
+
+		List<CategoryStats> categories = aggregator.getCategoryStats();
+		assertEquals("Java", categories.get(0).getCategory());
+		assertEquals(2L, categories.get(0).getCount());
+		assertEquals(2.5, categories.get(0).getAverageConfidence());
+		assertEquals(1L, categories.get(0).getWeakTopics());
+		assertEquals(1L, categories.get(0).getModerateTopics());
+		assertEquals(1L, categories.get(1).getStrongTopics());
+
+		assertEquals(1, aggregator.getTopicsLearned(YearMonth.of(2024, 6)));
+		assertEquals(1, aggregator.getTopicsLearned(YearMonth.of(2024, 5)));
+		assertEquals(0, aggregator.getTopicsLearned(YearMonth.of(2023, 1)));
+	}
+
+	@Test
+	void usesTheConfiguredBandsAndWindow() {
+		DashboardAggregator aggregator = new DashboardAggregator(NOW, 2, 5, 24);
+		aggregator.addTopic(2, "Java", LocalDate.of(2023, 1, 10), null);
+		aggregator.addTopic(4, "Java", null, null);
+		aggregator.addTopic(5, "Java", null, null);
+
+		assertEquals(0, aggregator.getWeakTopics());
+		assertEquals(2, aggregator.getModerateTopics());
+		assertEquals(1, aggregator.getStrongTopics());
+		assertEquals(1, aggregator.getTopicsLearned(YearMonth.of(2023, 1)));
+	}
+
+	@Test
+	void tracksStreaksFromReviewDays() {
+		DashboardAggregator aggregator = new DashboardAggregator(NOW, 3, 4, 12);
+		for (int daysAgo : new int[]{0, 1, 2, 10, 11, 12, 13}) {
+			aggregator.addReview(NOW.minusDays(daysAgo).minusHours(1), NOW.toLocalDate().plusDays(3), 4, 10);
+		}
+		aggregator.addReview(NOW.minusDays(1), NOW.toLocalDate().minusDays(2), 2, null);
+
+		assertEquals(3, aggregator.getCurrentStreak());
+		assertEquals(4, aggregator.getLongestStreak());
+		assertTrue(aggregator.isReviewedToday());
+		assertEquals(NOW.toLocalDate(), aggregator.getLastReviewDate());
+		assertEquals(4, aggregator.getReviewsThisWeek());
+		assertEquals(1, aggregator.getDueToday());
+		assertEquals(1, aggregator.getOverdue());
+		assertEquals(30, aggregator.getRatingSum());
+		assertEquals(70, aggregator.getTotalTimeSpentMinutes());
+		assertEquals(8, aggregator.getReviewsCompleted(YearMonth.of(2024, 6)));
+
+		DashboardAggregator idle = new DashboardAggregator(NOW, 3, 4, 12);
+		idle.addReview(NOW.minusDays(1), null, 3, 5);
+		assertEquals(0, idle.getCurrentStreak());
+		assertFalse(idle.isReviewedToday());
+		assertNull(idle.getFirstLearnedDate());
+	}
+}
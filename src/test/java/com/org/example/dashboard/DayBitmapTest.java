@@ -0,0 +1,48 @@
+package com.org.example.dashboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DayBitmapTest {
+
+	private static final LocalDate START = LocalDate.of(2024, 3, 1);
+
+	@Test
+	void answersRunsAndRangesAndSurvivesARoundTrip() {
+		DayBitmap days = new DayBitmap();
+		for (int offset : new int[]{0, 1, 2, 10, 11, 12, 13, 40}) {
+			days.add(START.plusDays(offset));
+		}
+
+		DayBitmap restored = DayBitmap.of(days.getBaseDay(), days.toByteArray());
+
+		assertEquals(4, restored.longestRun());
+		assertEquals(3, restored.runEndingAt(START.plusDays(12)));
+		assertEquals(0, restored.runEndingAt(START.plusDays(5)));
+		assertEquals(7, restored.count(START, START.plusDays(31)));
+		assertEquals(8, restored.count(START.minusDays(100), START.plusDays(100)));
+		assertEquals(List.of(START.plusDays(13), START.plusDays(40)), restored.days(START.plusDays(13), START.plusDays(60)));
+		assertEquals(START.plusDays(40), restored.getLastDay());
+		assertTrue(restored.contains(START.plusDays(10)));
+		assertFalse(restored.contains(START.plusDays(41)));
+	}
+
+	@Test
+	void movesItsBaseBackForEarlierDays() {
+		DayBitmap days = new DayBitmap();
+		days.add(START);
+		days.add(START.minusDays(1));
+		days.add(START.minusDays(20));
+
+		assertEquals(START.minusDays(20), days.getFirstDay());
+		assertEquals(2, days.runEndingAt(START));
+		assertEquals(3, days.count(START.minusDays(30), START));
+		assertTrue(days.contains(START.minusDays(20)));
+	}
+}
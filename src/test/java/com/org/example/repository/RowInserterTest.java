@@ -0,0 +1,55 @@
+package com.org.example.repository;
+
+import com.org.example.entities.Tag;
+import com.org.example.entities.UserStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.persistence.autoconfigure.PersistenceExceptionTranslationAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Inserts commit on their own, so rows created here outlive the test's rollback: use fresh keys.
+ * The slice leaves out @Repository exception translation, which the application context has.
+ */
+@DataJpaTest
+@Import(RowInserter.class)
+@ImportAutoConfiguration(PersistenceExceptionTranslationAutoConfiguration.class)
+class RowInserterTest {
+
+	@Autowired
+	private RowInserter rowInserter;
+
+	@Autowired
+	private UserStatsRepository userStatsRepository;
+
+	@Autowired
+	private TagRepository tagRepository;
+
+	@Test
+	void aDuplicateFailsOnlyTheInsertAndTheExistingRowIsReadBack() {
+		UserStats first = new UserStats(1001L);
+		first.setTotalTopics(5L);
+		rowInserter.insert(first);
+
+		assertThrows(DataIntegrityViolationException.class, () -> rowInserter.insert(new UserStats(1001L)));
+
+		// The caller's transaction is still usable and sees the committed row, unchanged
+		assertEquals(5L, userStatsRepository.findForUpdateByUserId(1001L).orElseThrow().getTotalTopics());
+	}
+
+	@Test
+	void aTagNameIsCreatedOnce() {
+		rowInserter.insert(new Tag(null, "row-inserter"));
+
+		assertThrows(DataIntegrityViolationException.class, () -> rowInserter.insert(new Tag(null, "row-inserter")));
+		assertEquals(1, tagRepository.findLockedByNameIn(List.of("row-inserter")).size());
+	}
+}
@@ -0,0 +1,153 @@
+package com.org.example.repository;
+
+import com.org.example.dto.SearchRequest;
+import com.org.example.entities.ReviewSession;
+import com.org.example.entities.Tag;
+import com.org.example.entities.Topic;
+import com.org.example.entities.TopicTag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the specifications against real rows (in-memory database), so the generated SQL is checked,
+ * not just the predicates that build it.
+ */
+@DataJpaTest
+class TopicSpecificationsTest {
+
+	private static final LocalDate TODAY = LocalDate.now();
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TopicRepository topicRepository;
+
+	@Test
+	void withoutFiltersOnlyTheUsersTopicsMatch() {
+		Topic java = topic(7L, "Java", 3, null, null);
+		Topic sql = topic(7L, "SQL", null, null, null);
+		topic(8L, "Java", 3, null, null);
+
+		assertEquals(Set.of(java.getId(), sql.getId()), find(7L, new SearchRequest()));
+	}
+
+	@Test
+	void confidenceRangeIsInclusiveAndLetsMissingConfidenceThrough() {
+		topic(7L, "Java", 1, null, null);
+		Topic two = topic(7L, "Java", 2, null, null);
+		Topic four = topic(7L, "Java", 4, null, null);
+		topic(7L, "Java", 5, null, null);
+		Topic unrated = topic(7L, "Java", null, null, null);
+
+		SearchRequest request = new SearchRequest();
+		request.setMinConfidence(2);
+		request.setMaxConfidence(4);
+
+		assertEquals(Set.of(two.getId(), four.getId(), unrated.getId()), find(7L, request));
+	}
+
+	@Test
+	void learnedDateRangeIsInclusiveAndLetsMissingDatesThrough() {
+		topic(7L, "Java", 3, LocalDate.of(2024, 12, 31), null);
+		Topic first = topic(7L, "Java", 3, LocalDate.of(2025, 1, 1), null);
+		Topic last = topic(7L, "Java", 3, LocalDate.of(2025, 6, 30), null);
+		topic(7L, "Java", 3, LocalDate.of(2025, 7, 1), null);
+		Topic undated = topic(7L, "Java", 3, null, null);
+
+		SearchRequest request = new SearchRequest();
+		request.setLearnedAfter(LocalDate.of(2025, 1, 1));
+		request.setLearnedBefore(LocalDate.of(2025, 6, 30));
+
+		assertEquals(Set.of(first.getId(), last.getId(), undated.getId()), find(7L, request));
+	}
+
+	@Test
+	void categoriesAndNormalizedTagsNarrowTheMatch() {
+		Topic spring = topic(7L, "Backend", 3, null, null);
+		Topic docker = topic(7L, "Backend", 3, null, null);
+		Topic css = topic(7L, "Frontend", 3, null, null);
+		Tag springTag = entityManager.persist(new Tag(null, "spring"));
+		Tag cssTag = entityManager.persist(new Tag(null, "css"));
+		entityManager.persist(new TopicTag(spring.getId(), springTag.getId()));
+		entityManager.persist(new TopicTag(css.getId(), cssTag.getId()));
+
+		SearchRequest request = new SearchRequest();
+		request.setCategories(List.of("Backend"));
+		assertEquals(Set.of(spring.getId(), docker.getId()), find(7L, request));
+
+		request.setTags(List.of(" SPRING", "css"));
+		assertEquals(Set.of(spring.getId()), find(7L, request));
+	}
+
+	@Test
+	void dueForReviewNeedsASessionScheduledForTodayOrEarlier() {
+		Topic overdue = topic(7L, "Java", 3, null, null);
+		Topic dueToday = topic(7L, "Java", 3, null, null);
+		Topic dueTomorrow = topic(7L, "Java", 3, null, null);
+		Topic unscheduled = topic(7L, "Java", 3, null, null);
+		topic(7L, "Java", 3, null, null);
+		review(overdue, TODAY.minusDays(3));
+		review(dueToday, TODAY);
+		review(dueTomorrow, TODAY.plusDays(1));
+		review(unscheduled, null);
+
+		SearchRequest request = new SearchRequest();
+		request.setOnlyDueForReview(true);
+
+		assertEquals(Set.of(overdue.getId(), dueToday.getId()), find(7L, request));
+	}
+
+	@Test
+	void atRiskMeansLastReviewedBeforeTheThresholdAndNeverReviewedIsNot() {
+		LocalDate threshold = TODAY.minusDays(TopicSpecifications.AT_RISK_DAYS);
+		Topic stale = topic(7L, "Java", 3, null, threshold.minusDays(1));
+		topic(7L, "Java", 3, null, threshold);
+		topic(7L, "Java", 3, null, TODAY);
+		topic(7L, "Java", 3, null, null);
+
+		SearchRequest request = new SearchRequest();
+		request.setOnlyAtRisk(true);
+
+		assertEquals(Set.of(stale.getId()), find(7L, request));
+	}
+
+	private Set<Long> find(Long userId, SearchRequest request) {
+		entityManager.flush();
+		entityManager.clear();
+		return topicRepository.findAll(TopicSpecifications.matching(userId, request)).stream()
+				.map(Topic::getId)
+				.collect(Collectors.toSet());
+	}
+
+	private Topic topic(Long userId, String category, Integer confidence, LocalDate learned, LocalDate lastReviewed) {
+		Topic topic = new Topic();
+		topic.setUserId(userId);
+		topic.setName(category + " topic");
+		topic.setCategory(category);
+		topic.setConfidenceLevel(confidence);
+		topic.setLearnedDate(learned);
+		topic.setLastReviewed(lastReviewed);
+		return entityManager.persist(topic);
+	}
+
+	private void review(Topic topic, LocalDate nextReviewDate) {
+		ReviewSession review = new ReviewSession();
+		review.setTopicId(topic.getId());
+		review.setUserId(topic.getUserId());
+		review.setReviewedAt(LocalDateTime.now().minusDays(7));
+		review.setRating(3);
+		review.setNextReviewDate(nextReviewDate);
+		entityManager.persist(review);
+	}
+}
@@ -0,0 +1,24 @@
+package com.org.example.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BooleanModeQueryTest {
+
+	@Test
+	void keepsSupportedOperators() {
+		assertEquals("+spring -boot jav* \"dependency injection\"",
+				BooleanModeQuery.sanitize("+spring -boot jav* \"dependency injection\""));
+		assertEquals("~legacy >java <kotlin", BooleanModeQuery.sanitize("~legacy >java <kotlin"));
+	}
+
+	@Test
+	void dropsOperatorsInnoDbWouldRejectAsSyntax() {
+		assertEquals("c", BooleanModeQuery.sanitize("c++"));
+		assertEquals("spring boot", BooleanModeQuery.sanitize("\"spring boot"));
+		assertEquals("a b", BooleanModeQuery.sanitize("(a @b))"));
+		assertEquals("node js", BooleanModeQuery.sanitize("node.js"));
+		assertEquals("", BooleanModeQuery.sanitize("+ - ** \"\""));
+	}
+}
@@ -0,0 +1,40 @@
+package com.org.example.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CodeTokenizerTest {
+
+	@Test
+	void splitsCamelCaseIdentifiersAndKeepsTheWholeName() {
+		List<String> tokens = CodeTokenizer.tokenize("Map<String, Integer> m = new HashMap<>();", "java");
+
+		assertTrue(tokens.containsAll(List.of("hashmap", "hash", "map", "string", "integer", "new")));
+		assertFalse(tokens.contains("<>"), "generic diamond is punctuation, not an operator here");
+	}
+
+	@Test
+	void splitsSnakeCaseAndAcronyms() {
+		assertEquals(List.of("getuserid", "get", "user", "id"),
+				CodeTokenizer.tokenize("get_user_id", "python"));
+		assertEquals(List.of("parsehttpresponse", "parse", "http", "response"),
+				CodeTokenizer.tokenize("parseHTTPResponse", "javascript"));
+	}
+
+	@Test
+	void sqlIdentifiersAreNotSplitOnCase() {
+		assertEquals(List.of("select", "userid", "from", "users"),
+				CodeTokenizer.tokenize("SELECT UserId FROM users", "sql"));
+	}
+
+	@Test
+	void indexesOperatorsAsSymbols() {
+		assertTrue(CodeTokenizer.tokenize("list.forEach(x -> print(x))", "java").contains("->"));
+		assertTrue(CodeTokenizer.tokenize("String::valueOf", "java").contains("::"));
+	}
+}
@@ -0,0 +1,67 @@
+package com.org.example.search;
+
+import com.org.example.enums.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyVocabularyTest {
+
+	private final SearchDocKey topic = new SearchDocKey(ContentType.TOPIC, 1L);
+	private final SearchDocKey note = new SearchDocKey(ContentType.NOTE, 2L);
+
+	@Test
+	void levenshteinStopsAtTheEditBudget() {
+		assertEquals(0, Levenshtein.distance("docker", "docker", 2));
+		assertEquals(1, Levenshtein.distance("docker", "dockr", 2));
+		assertEquals(1, Levenshtein.distance("kubernetes", "kubernetis", 2));
+		assertEquals(2, Levenshtein.distance("graphql", "grpahql", 2));
+		assertEquals(3, Levenshtein.distance("java", "python", 2));
+		assertEquals(2, Levenshtein.distance("", "go", 2));
+	}
+
+	@Test
+	void correctsWithinTheEditBudgetOnly() {
+		FuzzyVocabulary vocabulary = new FuzzyVocabulary();
+		vocabulary.put(topic, List.of("kubernetes", "kafka"));
+		vocabulary.put(note, List.of("kubectl"));
+
+		assertEquals(Set.of("kubernetes"), vocabulary.corrections("kubernetis", 2, 50));
+		assertEquals(Set.of("kubernetes"), vocabulary.corrections("kuberntes", 1, 50));
+		assertTrue(vocabulary.corrections("kubernetes", 2, 50).isEmpty());
+		assertTrue(vocabulary.corrections("kubernetis", 0, 50).isEmpty());
+
+		vocabulary.remove(topic);
+		assertTrue(vocabulary.corrections("kubernetis", 2, 50).isEmpty());
+	}
+
+	@Test
+	void findsCorrectionsPastCommonTrigrams() {
+		FuzzyVocabulary vocabulary = new FuzzyVocabulary();
+		List<String> noise = new ArrayList<>();
+		for (int i = 0; i < FuzzyVocabulary.SCAN_CAP * 2; i++) {
+			noise.add("spring" + i);
+		}
+		vocabulary.put(note, noise);
+		vocabulary.put(topic, List.of("springboot"));
+
+		assertEquals(Set.of("springboot"), vocabulary.corrections("sprngboot", 1, 50));
+	}
+
+	@Test
+	void exactMatchesOutrankFuzzyOnes() {
+		UserSearchIndex index = new UserSearchIndex();
+		index.put(topic, SearchTokenizer.tokenize("Kubernetes"), SearchTokenizer.tokenize("Kubernetes"));
+		index.put(note, SearchTokenizer.tokenize("Kubernetis"), SearchTokenizer.tokenize("Kubernetis"));
+
+		Map<SearchDocKey, Double> scores = index.search(SearchTokenizer.tokenize("kubernetes"), true);
+		assertEquals(Set.of(topic, note), scores.keySet());
+		assertTrue(scores.get(topic) > scores.get(note));
+	}
+}
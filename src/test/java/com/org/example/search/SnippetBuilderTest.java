@@ -0,0 +1,35 @@
+package com.org.example.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnippetBuilderTest {
+
+	@Test
+	void picksTheWindowWithMostQueryTermsAndHighlightsThem() {
+		String text = "Spring intro. " + "x".repeat(200) + " Using Spring Security filters with spring boot.";
+		Snippet snippet = SnippetBuilder.build(List.of(text), SearchTokenizer.tokenize("spring security"), 60);
+
+		assertTrue(snippet.getText().startsWith("..."));
+		assertTrue(snippet.getText().contains("Spring Security"));
+		for (Snippet.Span span : snippet.getHighlights()) {
+			String highlighted = snippet.getText().substring(span.getStart(), span.getEnd()).toLowerCase();
+			assertTrue(highlighted.equals("spring") || highlighted.equals("security"), highlighted);
+		}
+		assertEquals(3, snippet.getHighlights().size());
+	}
+
+	@Test
+	void skipsNullFieldsAndPrefersTheFieldThatMatches() {
+		Snippet snippet = SnippetBuilder.build(Arrays.asList(null, "Plain content", "Map<String, Integer> counts = new HashMap<>();"),
+				SearchTokenizer.tokenize("hash"), 150);
+
+		assertEquals("Map<String, Integer> counts = new HashMap<>();", snippet.getText());
+		assertEquals(List.of(new Snippet.Span(34, 41)), snippet.getHighlights());
+	}
+}
@@ -0,0 +1,78 @@
+package com.org.example.search;
+
+import com.org.example.enums.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserSearchIndexTest {
+
+	private final SearchDocKey topic = new SearchDocKey(ContentType.TOPIC, 1L);
+	private final SearchDocKey note = new SearchDocKey(ContentType.NOTE, 2L);
+
+	@Test
+	void findsDocumentsContainingEveryToken() {
+		UserSearchIndex index = new UserSearchIndex();
+		index.put(topic, SearchTokenizer.tokenize("Spring Boot, Java"));
+		index.put(note, SearchTokenizer.tokenize("Java streams"));
+
+		assertEquals(Set.of(topic, note), index.search(SearchTokenizer.tokenize("java")).keySet());
+		assertEquals(Set.of(note), index.search(SearchTokenizer.tokenize("JAVA streams")).keySet());
+		assertEquals(Set.of(topic), index.search(SearchTokenizer.tokenize("spr")).keySet());
+	}
+
+	@Test
+	void ranksExactAndRepeatedTermsHigher() {
+		UserSearchIndex index = new UserSearchIndex();
+		index.put(topic, SearchTokenizer.tokenize("JavaScript basics"));
+		index.put(note, SearchTokenizer.tokenize("Java java generics"));
+
+		Map<SearchDocKey, Double> scores = index.search(SearchTokenizer.tokenize("java"));
+		assertTrue(scores.get(note) > scores.get(topic));
+	}
+
+	@Test
+	void reindexAndRemoveDropStalePostings() {
+		UserSearchIndex index = new UserSearchIndex();
+		index.put(topic, SearchTokenizer.tokenize("Docker"));
+		index.put(topic, SearchTokenizer.tokenize("Kubernetes"));
+
+		assertTrue(index.search(SearchTokenizer.tokenize("docker")).isEmpty());
+		assertEquals(Set.of(topic), index.search(SearchTokenizer.tokenize("kubernetes")).keySet());
+
+		index.remove(topic);
+		assertTrue(index.search(SearchTokenizer.tokenize("kubernetes")).isEmpty());
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	void fuzzySearchCorrectsTyposOnlyWhenAsked() {
+		UserSearchIndex index = new UserSearchIndex();
+		index.put(topic, SearchTokenizer.tokenize("Kubernetes deployments"), SearchTokenizer.tokenize("Kubernetes"));
+		index.put(note, SearchTokenizer.tokenize("Docker compose"), SearchTokenizer.tokenize("Docker compose"));
+
+		assertTrue(index.search(SearchTokenizer.tokenize("kubernetis")).isEmpty());
+		assertEquals(Set.of(topic), index.search(SearchTokenizer.tokenize("kubernetis"), true).keySet());
+		assertEquals(Set.of(note), index.search(SearchTokenizer.tokenize("dockr compose"), true).keySet());
+		assertTrue(index.search(SearchTokenizer.tokenize("kubectl"), true).isEmpty());
+	}
+
+	@Test
+	void codeSymbolsMissingFromTheIndexedLanguageDoNotExcludeMatches() {
+		UserSearchIndex index = new UserSearchIndex();
+		index.put(note, CodeTokenizer.tokenize("Map<String, Integer> counts = new HashMap<>();", "java"));
+		index.put(topic, CodeTokenizer.tokenize("SELECT name FROM users WHERE role <> 'admin'", "sql"));
+
+		assertEquals(Set.of(note), index.search(SearchTokenizer.tokenize("new HashMap<>()")).keySet());
+		assertEquals(Set.of(topic), index.search(SearchTokenizer.tokenize("<>")).keySet());
+
+		index.put(note, CodeTokenizer.tokenize("SELECT name FROM users WHERE role = 'admin'", "sql"));
+		Map<SearchDocKey, Double> scores = index.search(SearchTokenizer.tokenize("role <> admin"));
+		assertEquals(Set.of(topic, note), scores.keySet());
+		assertTrue(scores.get(topic) > scores.get(note));
+	}
+}
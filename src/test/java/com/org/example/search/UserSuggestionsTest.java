@@ -0,0 +1,89 @@
+package com.org.example.search;
+
+import com.org.example.enums.ContentType;
+import com.org.example.enums.SuggestionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserSuggestionsTest {
+
+	private static final Comparator<Suggestion> BY_CONFIDENCE = Comparator
+			.comparing(Suggestion::getConfidenceLevel, Comparator.reverseOrder())
+			.thenComparing(Suggestion::getText);
+
+	@Test
+	void completesAtWordStartsRankedByConfidence() {
+		UserSuggestions suggestions = new UserSuggestions();
+		suggestions.put(new SearchDocKey(ContentType.TOPIC, 1L), List.of(
+				new Suggestion(SuggestionType.TOPIC, "Spring Boot", 1L, 2, 0)));
+		suggestions.put(new SearchDocKey(ContentType.TOPIC, 2L), List.of(
+				new Suggestion(SuggestionType.TOPIC, "Spring Security", 2L, 5, 0)));
+		suggestions.put(new SearchDocKey(ContentType.TOPIC, 3L), List.of(
+				new Suggestion(SuggestionType.TOPIC, "Docker", 3L, 4, 0)));
+
+		assertEquals(List.of("Spring Security", "Spring Boot"), texts(suggestions.suggest("spr", 10, BY_CONFIDENCE)));
+		assertEquals(List.of("Spring Boot"), texts(suggestions.suggest("BOO", 10, BY_CONFIDENCE)));
+		assertEquals(List.of("Spring Security"), texts(suggestions.suggest("s", 1, BY_CONFIDENCE)));
+		assertTrue(suggestions.suggest("x", 10, BY_CONFIDENCE).isEmpty());
+	}
+
+	@Test
+	void sharedCompletionsSurviveUntilTheLastContributorIsRemoved() {
+		UserSuggestions suggestions = new UserSuggestions();
+		SearchDocKey first = new SearchDocKey(ContentType.TOPIC, 1L);
+		SearchDocKey second = new SearchDocKey(ContentType.TOPIC, 2L);
+		suggestions.put(first, List.of(new Suggestion(SuggestionType.TAG, "java", 1L, 3, 0)));
+		suggestions.put(second, List.of(new Suggestion(SuggestionType.TAG, "Java", 2L, 5, 0)));
+
+		List<Suggestion> both = suggestions.suggest("ja", 10, BY_CONFIDENCE);
+		assertEquals(1, both.size());
+		assertEquals(2L, both.get(0).getId());
+
+		suggestions.remove(second);
+		assertEquals(1L, suggestions.suggest("ja", 10, BY_CONFIDENCE).get(0).getId());
+
+		suggestions.put(first, List.of(new Suggestion(SuggestionType.TAG, "kotlin", 1L, 3, 0)));
+		assertTrue(suggestions.suggest("ja", 10, BY_CONFIDENCE).isEmpty());
+		assertEquals(List.of("kotlin"), texts(suggestions.suggest("k", 10, BY_CONFIDENCE)));
+	}
+
+	@Test
+	void cachedRankingsFollowConfidenceChanges() {
+		UserSuggestions suggestions = new UserSuggestions();
+		SearchDocKey boot = new SearchDocKey(ContentType.TOPIC, 1L);
+		SearchDocKey security = new SearchDocKey(ContentType.TOPIC, 2L);
+		suggestions.put(boot, List.of(new Suggestion(SuggestionType.TOPIC, "Spring Boot", 1L, 2, 0)));
+		suggestions.put(security, List.of(new Suggestion(SuggestionType.TOPIC, "Spring Security", 2L, 5, 0)));
+		assertEquals(List.of("Spring Security", "Spring Boot"), texts(suggestions.suggest("s", 10, BY_CONFIDENCE)));
+
+		suggestions.put(security, List.of(new Suggestion(SuggestionType.TOPIC, "Spring Security", 2L, 1, 0)));
+		assertEquals(List.of("Spring Boot", "Spring Security"), texts(suggestions.suggest("s", 10, BY_CONFIDENCE)));
+
+		suggestions.put(boot, List.of(new Suggestion(SuggestionType.TOPIC, "Spring Boot", 1L, 2, 0),
+				new Suggestion(SuggestionType.TAG, "boot", 1L, 4, 0)));
+		assertEquals(List.of("boot", "Spring Boot"), texts(suggestions.suggest("b", 10, BY_CONFIDENCE)));
+	}
+
+	@Test
+	void limitsAboveTheCachedRankingWalkTheSubtree() {
+		UserSuggestions suggestions = new UserSuggestions();
+		for (long id = 1; id <= 80; id++) {
+			suggestions.put(new SearchDocKey(ContentType.TOPIC, id), List.of(
+					new Suggestion(SuggestionType.TOPIC, "Topic " + id, id, (int) (id % 5) + 1, 0)));
+		}
+
+		List<Suggestion> all = suggestions.suggest("top", 100, BY_CONFIDENCE);
+		assertEquals(80, all.size());
+		assertEquals(all.subList(0, 10), suggestions.suggest("t", 10, BY_CONFIDENCE));
+	}
+
+	private List<String> texts(List<Suggestion> suggestions) {
+		return suggestions.stream().map(Suggestion::getText).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,99 @@
+package com.org.example.service;
+
+import com.org.example.dto.SearchRequest;
+import com.org.example.dto.SearchResponse;
+import com.org.example.enums.ContentType;
+import com.org.example.event.ContentChangedEvent;
+import com.org.example.event.ReviewRecordedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SearchResultCacheTest {
+
+	private final AtomicInteger searches = new AtomicInteger();
+
+	@Test
+	void writesAndReviewsInvalidateOnlyTheirUsersEntries() {
+		SearchResultCache cache = new SearchResultCache(true, 100, 300);
+		SearchRequest request = request("spring");
+
+		SearchResponse first = cache.get(1L, request, search(false));
+		assertSame(first, cache.get(1L, request, search(false)));
+		cache.get(2L, request, search(false));
+		assertEquals(2, searches.get());
+
+		cache.onContentChanged(ContentChangedEvent.saved(1L, ContentType.NOTE, 5L));
+		cache.get(1L, request, search(false));
+		cache.get(2L, request, search(false));
+		assertEquals(3, searches.get());
+
+		cache.onReviewRecorded(new ReviewRecordedEvent(1L, 3L, 9L, LocalDateTime.now()));
+		cache.get(1L, request, search(false));
+		assertEquals(4, searches.get());
+		assertEquals(2, cache.getStats().getHits());
+	}
+
+	@Test
+	void equivalentRequestsShareAnEntry() {
+		SearchResultCache cache = new SearchResultCache(true, 100, 300);
+		SearchRequest request = request("  spring   boot ");
+		request.setTags(List.of("java", "web"));
+		SearchRequest same = request("spring boot");
+		same.setTags(List.of("web", "java"));
+		same.setPage(0);
+
+		cache.get(1L, request, search(false));
+		cache.get(1L, same, search(false));
+		assertEquals(1, searches.get());
+
+		same.setPage(1);
+		cache.get(1L, same, search(false));
+		assertEquals(2, searches.get());
+	}
+
+	@Test
+	void partialResponsesAreNotCached() {
+		SearchResultCache cache = new SearchResultCache(true, 100, 300);
+
+		cache.get(1L, request("docker"), search(true));
+		cache.get(1L, request("docker"), search(true));
+		assertEquals(2, searches.get());
+		assertEquals(0, cache.getStats().getSize());
+	}
+
+	@Test
+	void evictsTheLeastRecentlyUsedEntryBeyondMaxEntries() {
+		SearchResultCache cache = new SearchResultCache(true, 2, 300);
+
+		cache.get(1L, request("a"), search(false));
+		cache.get(1L, request("b"), search(false));
+		cache.get(1L, request("a"), search(false));
+		cache.get(1L, request("c"), search(false));
+		assertEquals(1, cache.getStats().getEvictions());
+
+		cache.get(1L, request("a"), search(false));
+		assertEquals(3, searches.get());
+		cache.get(1L, request("b"), search(false));
+		assertEquals(4, searches.get());
+	}
+
+	private SearchRequest request(String query) {
+		SearchRequest request = new SearchRequest();
+		request.setQuery(query);
+		return request;
+	}
+
+	private Supplier<SearchResponse> search(boolean partial) {
+		return () -> {
+			searches.incrementAndGet();
+			return SearchResponse.builder().partialResults(partial).build();
+		};
+	}
+}